@@ -0,0 +1,93 @@
+package com.memo1.memo_server.bench;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 H2 (MSSQLServer 호환 모드) 데이터베이스와 시드 데이터
+final class BenchDatabase {
+
+    static final String[] BOARDS = {"B1", "B2", "B3"};
+
+    private static final String[] WORDS = {
+        "공지", "서버", "점검", "안내", "업데이트", "게시판", "문의", "답변", "회원", "가입",
+        "로그인", "비밀번호", "변경", "이벤트", "당첨", "발표", "배송", "주문", "취소", "환불",
+        "결제", "오류", "수정", "요청", "기능", "추가", "개선", "사항", "일정", "변경됨",
+        "메모", "작성", "저장", "삭제", "검색", "결과", "목록", "상세", "첨부", "파일",
+        "server", "update", "notice", "error", "login", "event", "release", "patch", "memo", "search"
+    };
+
+    private BenchDatabase() {
+    }
+
+    // DB_CLOSE_DELAY=-1 이라 같은 이름이면 애플리케이션 컨텍스트에서도 같은 DB 를 본다
+    static String url(String name) {
+        return "jdbc:h2:mem:" + name + ";MODE=MSSQLServer;DB_CLOSE_DELAY=-1";
+    }
+
+    static DataSource create(String name) {
+        DriverManagerDataSource ds = new DriverManagerDataSource(url(name), "sa", "");
+        ds.setDriverClassName("org.h2.Driver");
+        return ds;
+    }
+
+    static void createSchema(JdbcTemplate jdbc) {
+        jdbc.execute("CREATE TABLE TBOARD (" +
+            "BR_SEQ INT IDENTITY PRIMARY KEY, BR_CD VARCHAR(10), BR_TITLE NVARCHAR(200), " +
+            "BR_CONTENT NVARCHAR(MAX), BR_FILE NVARCHAR(500), BR_REG_ID VARCHAR(50), " +
+            "BR_REG_DT DATETIME DEFAULT CURRENT_TIMESTAMP)");
+        jdbc.execute("CREATE INDEX IX_TBOARD_CD_SEQ ON TBOARD (BR_CD, BR_SEQ DESC)");
+        jdbc.execute("CREATE TABLE MEMO (" +
+            "FID INT IDENTITY PRIMARY KEY, FTITLE NVARCHAR(200), FCONTENT NVARCHAR(MAX), " +
+            "FCREATED_AT DATETIME DEFAULT CURRENT_TIMESTAMP)");
+    }
+
+    // 게시판별로 고르게 rows 건 입력
+    static void seedBoards(JdbcTemplate jdbc, int rows) {
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[] {
+                BOARDS[i % BOARDS.length], sentence(random, 3, 6), sentence(random, 10, 30), "", "user"
+            });
+            if (batch.size() == 1000) {
+                jdbc.batchUpdate("INSERT INTO TBOARD (BR_CD, BR_TITLE, BR_CONTENT, BR_FILE, BR_REG_ID) VALUES (?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate("INSERT INTO TBOARD (BR_CD, BR_TITLE, BR_CONTENT, BR_FILE, BR_REG_ID) VALUES (?, ?, ?, ?, ?)", batch);
+        }
+    }
+
+    static void seedMemos(JdbcTemplate jdbc, int rows) {
+        Random random = new Random(7);
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[] {sentence(random, 2, 5), sentence(random, 5, 20)});
+            if (batch.size() == 1000) {
+                jdbc.batchUpdate("INSERT INTO MEMO (FTITLE, FCONTENT) VALUES (?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate("INSERT INTO MEMO (FTITLE, FCONTENT) VALUES (?, ?)", batch);
+        }
+    }
+
+    private static String sentence(Random random, int min, int max) {
+        int words = min + random.nextInt(max - min + 1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.memo1.memo_server.bench;
+
+import com.memo1.memo_server.search.InvertedIndex;
+import com.memo1.memo_server.search.SearchHits;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// LIKE '%kw%' (COUNT + 페이지) 대 바이그램 역색인 (메모리 매칭 + IN 조회) 비교
+// ./gradlew jmh -Pjmh.includes=BoardSearchBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BoardSearchBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"공지", "서버 점검", "release"})
+    public String keyword;
+
+    private JdbcTemplate jdbc;
+    private InvertedIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jdbc = new JdbcTemplate(BenchDatabase.create("search" + rows));
+        BenchDatabase.createSchema(jdbc);
+        BenchDatabase.seedBoards(jdbc, rows);
+
+        index = new InvertedIndex();
+        jdbc.query("SELECT BR_SEQ, BR_TITLE, BR_CONTENT FROM TBOARD WHERE BR_CD = 'B1'", rs -> {
+            index.put(rs.getInt(1), rs.getString(2), rs.getString(3));
+        });
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> likeSearch() {
+        String searchKeyword = "%" + keyword + "%";
+        Integer total = jdbc.queryForObject(
+            "SELECT COUNT(*) FROM TBOARD WHERE BR_CD = ? AND (BR_TITLE LIKE ? OR BR_CONTENT LIKE ?)",
+            Integer.class, "B1", searchKeyword, searchKeyword);
+        List<Map<String, Object>> page = jdbc.queryForList(
+            "SELECT * FROM TBOARD WHERE BR_CD = ? AND (BR_TITLE LIKE ? OR BR_CONTENT LIKE ?) " +
+            "ORDER BY BR_SEQ DESC OFFSET ? ROWS FETCH NEXT ? ROWS ONLY",
+            "B1", searchKeyword, searchKeyword, 0, 10);
+        return total != null ? page : List.of();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> indexSearch() {
+        int[] matches = index.match(keyword);
+        int[] seqs = SearchHits.page(matches, 0, 10);
+        if (seqs.length == 0) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder("SELECT * FROM TBOARD WHERE BR_SEQ IN (");
+        Object[] args = new Object[seqs.length];
+        for (int i = 0; i < seqs.length; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args[i] = seqs[i];
+        }
+        sql.append(") ORDER BY BR_SEQ DESC");
+        return jdbc.queryForList(sql.toString(), args);
+    }
+
+    // 색인 매칭만 (DB 조회 제외)
+    @Benchmark
+    public int indexMatchOnly() {
+        return index.match(keyword).length;
+    }
+}
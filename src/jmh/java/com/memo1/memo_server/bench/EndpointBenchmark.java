@@ -0,0 +1,130 @@
+package com.memo1.memo_server.bench;
+
+import com.memo1.memo_server.MemoServerApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 실제 애플리케이션(톰캣 + 컨트롤러 + JdbcTemplate)을 H2(MSSQLServer 호환 모드) 위에 띄우고 HTTP 요청 한 건씩 측정
+// 게시글/메모를 각각 rows 건 넣고 시작한다. 요청 로그(INFO)는 꺼서 코드 경로만 잰다.
+// ./gradlew jmh -Pjmh.includes=EndpointBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EndpointBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    @Param({"false", "true"})
+    public boolean streaming;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String base;
+    private int middleSeq;
+    private int middlePage;
+    private String keyword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String name = "endpoint" + rows;
+        JdbcTemplate jdbc = new JdbcTemplate(BenchDatabase.create(name));
+        BenchDatabase.createSchema(jdbc);
+        BenchDatabase.seedBoards(jdbc, rows);
+        BenchDatabase.seedMemos(jdbc, rows);
+
+        // application.yml 보다 우선하도록 명령행 인자로 넘긴다
+        context = new SpringApplicationBuilder(MemoServerApplication.class).run(
+            "--spring.datasource.url=" + BenchDatabase.url(name),
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--server.port=0",
+            "--response.streaming=" + streaming,
+            "--logging.level.com.memo1=WARN",
+            "--jdbc.metrics.slow-threshold=1m");
+        base = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newHttpClient();
+
+        // 게시판 B1 의 중간쯤 (B1 은 전체의 1/3)
+        middleSeq = rows / 2;
+        middlePage = Math.max(1, rows / BenchDatabase.BOARDS.length / 10 / 2);
+        keyword = URLEncoder.encode("서버 점검", StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] postsFirstPage() throws Exception {
+        return get("/api/board/posts?brCd=B1&page=1&size=10");
+    }
+
+    @Benchmark
+    public byte[] postsMiddleOffset() throws Exception {
+        return get("/api/board/posts?brCd=B1&size=10&page=" + middlePage);
+    }
+
+    @Benchmark
+    public byte[] postsMiddleKeyset() throws Exception {
+        return get("/api/board/posts?brCd=B1&size=10&afterSeq=" + middleSeq);
+    }
+
+    @Benchmark
+    public byte[] searchFirstPage() throws Exception {
+        return get("/api/board/search?brCd=B1&size=10&keyword=" + keyword);
+    }
+
+    @Benchmark
+    public byte[] searchFirstPageNoTotal() throws Exception {
+        return get("/api/board/search?brCd=B1&size=10&total=false&keyword=" + keyword);
+    }
+
+    @Benchmark
+    public byte[] boardDetail() throws Exception {
+        return get("/api/board/detail/" + middleSeq);
+    }
+
+    @Benchmark
+    public byte[] memoDetail() throws Exception {
+        return get("/api/memos/" + middleSeq);
+    }
+
+    private byte[] get(String path) throws Exception {
+        HttpResponse<byte[]> response = client.send(
+            HttpRequest.newBuilder(URI.create(base + path)).GET().build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " -> " + response.statusCode());
+        }
+        return response.body();
+    }
+}
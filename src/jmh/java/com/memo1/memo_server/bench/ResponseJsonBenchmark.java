@@ -0,0 +1,80 @@
+package com.memo1.memo_server.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.memo1.memo_server.dto.Board;
+import com.memo1.memo_server.support.SeqCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// getBoardPosts / searchBoard 응답 Map 의 JSON 직렬화만 측정 (DB, 매핑 제외)
+// ObjectMapper 는 Spring Boot 가 쓰는 Jackson2ObjectMapperBuilder 기본값으로 만든다.
+// ./gradlew jmh -Pjmh.includes=ResponseJsonBenchmark -Pjmh.profilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseJsonBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Board> posts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcTemplate jdbc = new JdbcTemplate(BenchDatabase.create("json"));
+        BenchDatabase.createSchema(jdbc);
+        BenchDatabase.seedBoards(jdbc, 1_000);
+        posts = jdbc.query("SELECT " + Board.COLUMNS + " FROM TBOARD WHERE BR_CD = ? ORDER BY BR_SEQ DESC " +
+                "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY", Board.MAPPER, "B1", size);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    // /posts, /search OFFSET 방식 응답 (BoardController.offsetResponse 와 같은 모양)
+    @Benchmark
+    public byte[] offsetResponse() throws Exception {
+        int totalCount = 333_334;
+        int totalPages = (int) Math.ceil((double) totalCount / size);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("content", posts);
+        response.put("totalPages", totalPages);
+        response.put("currentPage", 1);
+        response.put("totalElements", totalCount);
+        response.put("size", size);
+        response.put("nextCursor", SeqCursor.encode(posts.get(posts.size() - 1).brSeq()));
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // 키셋 / total=false 응답 (BoardController.keysetResponse 와 같은 모양)
+    @Benchmark
+    public byte[] keysetResponse() throws Exception {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("content", posts);
+        response.put("size", size);
+        response.put("hasNext", true);
+        response.put("nextCursor", SeqCursor.encode(posts.get(posts.size() - 1).brSeq()));
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
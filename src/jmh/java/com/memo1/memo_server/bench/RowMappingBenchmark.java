@@ -0,0 +1,154 @@
+package com.memo1.memo_server.bench;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.memo1.memo_server.dto.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.h2.tools.SimpleResultSet;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.OutputStream;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 목록 페이지 한 번(rows 행)을 매핑 + JSON 직렬화하는 비용 비교 (*MapOnly 는 매핑만)
+// DB 비용을 빼기 위해 페이지를 메모리 ResultSet(H2 SimpleResultSet)에 담아 두고 매번 되감아 읽는다.
+// 행당 할당량: ./gradlew jmh -Pjmh.includes=RowMappingBenchmark -Pjmh.profilers=gc
+//   gc.alloc.rate.norm(B/op) / rows 를 hashMapRows(기존 Map 행) / recordRows(레코드 + Jackson) / streamedRows(스트리밍) 끼리 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    // 기존 BoardController.boardRowMapper (행마다 HashMap + 컬럼명 조회)
+    private static final RowMapper<Map<String, Object>> HASH_MAP_MAPPER = (rs, rowNum) -> {
+        Map<String, Object> board = new HashMap<>();
+        board.put("br_seq", rs.getInt("BR_SEQ"));
+        board.put("br_cd", rs.getString("BR_CD"));
+        board.put("br_title", rs.getString("BR_TITLE"));
+        board.put("br_content", rs.getString("BR_CONTENT"));
+        board.put("br_file", rs.getString("BR_FILE"));
+        board.put("br_reg_id", rs.getString("BR_REG_ID"));
+        board.put("br_reg_dt", rs.getTimestamp("BR_REG_DT"));
+        return board;
+    };
+
+    @Param({"10", "100", "1000"})
+    public int rows;
+
+    private SimpleResultSet page;
+    private ObjectMapper objectMapper;
+
+    // 닫혀도 계속 쓸 수 있는 버리는 스트림
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcTemplate jdbc = new JdbcTemplate(BenchDatabase.create("mapping"));
+        BenchDatabase.createSchema(jdbc);
+        BenchDatabase.seedBoards(jdbc, 10_000);
+
+        page = new SimpleResultSet();
+        page.setAutoClose(false);
+        page.addColumn("BR_SEQ", Types.INTEGER, 10, 0);
+        page.addColumn("BR_CD", Types.VARCHAR, 10, 0);
+        page.addColumn("BR_TITLE", Types.NVARCHAR, 200, 0);
+        page.addColumn("BR_CONTENT", Types.NVARCHAR, Integer.MAX_VALUE, 0);
+        page.addColumn("BR_FILE", Types.NVARCHAR, 500, 0);
+        page.addColumn("BR_REG_ID", Types.VARCHAR, 50, 0);
+        page.addColumn("BR_REG_DT", Types.TIMESTAMP, 23, 3);
+        jdbc.query("SELECT " + Board.COLUMNS + " FROM TBOARD WHERE BR_CD = ? ORDER BY BR_SEQ DESC " +
+                "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY", rs -> {
+            page.addRow(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                    rs.getString(5), rs.getString(6), rs.getTimestamp(7));
+        }, "B1", rows);
+
+        // Spring Boot 기본 설정과 같게 날짜를 문자열로
+        objectMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    // 매핑만 (JSON 직렬화 제외)
+    @Benchmark
+    public List<Map<String, Object>> hashMapMapOnly() throws Exception {
+        page.beforeFirst();
+        List<Map<String, Object>> posts = new ArrayList<>();
+        while (page.next()) {
+            posts.add(HASH_MAP_MAPPER.mapRow(page, posts.size()));
+        }
+        return posts;
+    }
+
+    @Benchmark
+    public List<Board> recordMapOnly() throws Exception {
+        page.beforeFirst();
+        List<Board> posts = new ArrayList<>();
+        while (page.next()) {
+            posts.add(Board.MAPPER.mapRow(page, posts.size()));
+        }
+        return posts;
+    }
+
+    @Benchmark
+    public void hashMapRows() throws Exception {
+        page.beforeFirst();
+        List<Map<String, Object>> posts = new ArrayList<>();
+        while (page.next()) {
+            posts.add(HASH_MAP_MAPPER.mapRow(page, posts.size()));
+        }
+        objectMapper.writeValue(sink, Map.of("success", true, "content", posts));
+    }
+
+    @Benchmark
+    public void recordRows() throws Exception {
+        page.beforeFirst();
+        List<Board> posts = new ArrayList<>();
+        while (page.next()) {
+            posts.add(Board.MAPPER.mapRow(page, posts.size()));
+        }
+        objectMapper.writeValue(sink, Map.of("success", true, "content", posts));
+    }
+
+    // JsonRowStreamer 와 같은 방식: ResultSet 에서 바로 JSON
+    @Benchmark
+    public void streamedRows() throws Exception {
+        page.beforeFirst();
+        try (JsonGenerator g = objectMapper.getFactory().createGenerator(sink)) {
+            g.writeStartObject();
+            g.writeBooleanField("success", true);
+            g.writeArrayFieldStart("content");
+            while (page.next()) {
+                Board.writeJson(g, page);
+            }
+            g.writeEndArray();
+            g.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.memo1.memo_server.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 동시 접속 클라이언트 수별 처리량 / 지연시간(p50, p95, p99) 측정기
+// 각 클라이언트는 가상 스레드 하나로, 응답을 받으면 바로 다음 요청을 보낸다 (closed loop).
+//
+// 플랫폼 스레드(기본)와 가상 스레드 모드 비교:
+//   1) ./gradlew bootRun                                          → ./gradlew loadTest -Ploadtest.label=platform
+//   2) ./gradlew bootRun --args='--spring.profiles.active=vt'     → ./gradlew loadTest -Ploadtest.label=virtual
+//
+// 서블릿(/api)과 논블로킹(/rx/api, rx.enabled=true) 비교: 같은 서버에서 경로 앞부분만 바꿔 번갈아 측정
+//   ./gradlew bootRun --args='--rx.enabled=true'                 → ./gradlew loadTest -Ploadtest.prefixes=/api,/rx/api
+//
+// 옵션 (-P 로 전달): loadtest.base, loadtest.paths(쉼표 구분), loadtest.clients(쉼표 구분),
+//                   loadtest.seconds, loadtest.warmup-seconds, loadtest.label,
+//                   loadtest.prefixes(쉼표 구분, 지정하면 paths 의 /api 를 각 prefix 로 바꾸고 label 은 prefix)
+// 10k 클라이언트는 소켓 10k 개를 쓰므로 클라이언트/서버 모두 ulimit -n 을 넉넉히 잡아야 한다.
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String base = System.getProperty("loadtest.base", "http://localhost:9999");
+        String prefixes = System.getProperty("loadtest.prefixes");
+        // /rx/api 에는 조회 API 만 있으므로 비교 모드의 기본 경로는 양쪽에 모두 있는 것만
+        List<String> paths = Arrays.asList(System.getProperty("loadtest.paths", prefixes != null
+                ? "/api/board/posts?brCd=B1&page=1,/api/board/detail/1,/api/board/search?brCd=B1&keyword=a,/api/memos/1"
+                : "/api/board/posts?brCd=B1&page=1,/api/board/info?brCd=B1,/api/board/detail/1,/api/memos/stats").split(","));
+        int[] levels = Arrays.stream(System.getProperty("loadtest.clients", "1000,5000,10000").split(","))
+                .mapToInt(s -> Integer.parseInt(s.trim()))
+                .toArray();
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30L));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10L));
+        String label = System.getProperty("loadtest.label", base);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        Map<String, List<URI>> targets = new LinkedHashMap<>();
+        if (prefixes == null) {
+            targets.put(label, paths.stream().map(p -> URI.create(base + p.trim())).toList());
+        } else {
+            for (String prefix : prefixes.split(",")) {
+                targets.put(prefix.trim(), paths.stream()
+                        .map(p -> URI.create(base + prefix.trim() + p.trim().substring("/api".length())))
+                        .toList());
+            }
+        }
+
+        System.out.printf("%-10s %8s %10s %10s %10s %10s %8s%n", "label", "clients", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "errors");
+        for (int clients : levels) {
+            for (Map.Entry<String, List<URI>> target : targets.entrySet()) {
+                Result r = run(client, target.getValue(), clients, warmup, duration);
+                System.out.printf("%-10s %8d %10.1f %10.2f %10.2f %10.2f %8d%n", target.getKey(), clients,
+                        r.requests / (duration.toMillis() / 1000.0), r.p50, r.p95, r.p99, r.errors);
+            }
+        }
+    }
+
+    private static Result run(HttpClient client, List<URI> uris, int clients, Duration warmup, Duration duration)
+            throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongAdder requests = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                int offset = i;
+                executor.submit(() -> {
+                    int n = offset;
+                    while (true) {
+                        long start = System.nanoTime();
+                        if (start >= end) {
+                            return;
+                        }
+                        HttpRequest request = HttpRequest.newBuilder(uris.get(n++ % uris.size()))
+                                .timeout(Duration.ofSeconds(60))
+                                .GET()
+                                .build();
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() < 500;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long now = System.nanoTime();
+                        if (start >= measureFrom && now <= end) {
+                            requests.increment();
+                            if (ok) {
+                                histogram.record((now - start) / 1000);
+                            } else {
+                                errors.increment();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+        return new Result(requests.sum(), errors.sum(),
+                histogram.percentileMillis(0.50), histogram.percentileMillis(0.95), histogram.percentileMillis(0.99));
+    }
+
+    private record Result(long requests, long errors, double p50, double p95, double p99) {
+    }
+
+    // 마이크로초 단위 로그 버킷 히스토그램 (버킷 간 약 2% 오차, 최대 약 10분)
+    static final class LatencyHistogram {
+
+        private static final double GROWTH = Math.log(1.02);
+        private final AtomicLongArray buckets = new AtomicLongArray(1200);
+
+        void record(long micros) {
+            int index = micros <= 1 ? 0 : (int) Math.min(buckets.length() - 1, Math.log(micros) / GROWTH);
+            buckets.incrementAndGet(index);
+        }
+
+        double percentileMillis(double percentile) {
+            long total = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                total += buckets.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return Math.exp((i + 1) * GROWTH) / 1000.0;
+                }
+            }
+            return Math.exp(buckets.length() * GROWTH) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.memo1.memo_server.config;
+
+import com.memo1.memo_server.service.ChangeVersions;
+import com.memo1.memo_server.support.ReadReplicas;
+import com.memo1.memo_server.support.RoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 주 DB(spring.datasource) + 읽기 복제본(datasource.routing.replicas) 라우팅
+// DataSource 빈을 직접 만들기 때문에 스프링 부트의 기본 DataSource 는 만들어지지 않는다.
+// 복제본 풀은 spring.datasource.hikari 설정을 그대로 쓰고 url / 계정 / 풀 크기만 바꾼다 (hikaricp.* 메트릭은 pool=replica-N)
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    // datasource.routing.replicas[*] (계정을 비우면 spring.datasource 와 같음)
+    public record Replica(String url, String username, String password, Integer maximumPoolSize) {
+    }
+
+    @Bean
+    public ReadReplicas readReplicas(DataSourceProperties properties,
+                                     Environment env,
+                                     MeterRegistry registry,
+                                     ObjectProvider<JdbcTemplate> jdbc,
+                                     ChangeVersions versions,
+                                     @Value("${datasource.routing.heartbeat-table:}") String heartbeatTable,
+                                     @Value("${datasource.routing.max-lag:2s}") Duration maxLag,
+                                     @Value("${datasource.routing.check-interval:PT1S}") Duration checkInterval,
+                                     @Value("${datasource.routing.connection-timeout:1s}") Duration connectionTimeout) {
+        List<Replica> replicas = Binder.get(env)
+                .bind("datasource.routing.replicas", Bindable.listOf(Replica.class))
+                .orElse(List.of());
+
+        List<HikariDataSource> pools = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            HikariConfig config = hikariConfig(env);
+            config.setPoolName("replica-" + (i + 1));
+            config.setDriverClassName(properties.determineDriverClassName());
+            config.setJdbcUrl(replica.url());
+            config.setUsername(replica.username() != null ? replica.username() : properties.determineUsername());
+            config.setPassword(replica.password() != null ? replica.password() : properties.determinePassword());
+            if (replica.maximumPoolSize() != null) {
+                config.setMaximumPoolSize(replica.maximumPoolSize());
+            }
+            config.setReadOnly(true);
+            // 복제본이 내려가 있어도 기동은 하고, 커넥션을 오래 기다리지 않고 주 DB 로 넘어가도록
+            config.setInitializationFailTimeout(-1);
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+            config.setMetricRegistry(registry);
+            pools.add(new HikariDataSource(config));
+        }
+        return new ReadReplicas(pools, jdbc, heartbeatTable, maxLag, checkInterval, versions::lastChangedAt, registry);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment env, ReadReplicas replicas) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(env).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+        return new RoutingDataSource(primary, replicas);
+    }
+
+    private static HikariConfig hikariConfig(Environment env) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(env).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        return config;
+    }
+}
@@ -0,0 +1,39 @@
+package com.memo1.memo_server.config;
+
+import com.memo1.memo_server.support.SqlMetrics;
+import com.memo1.memo_server.support.TimedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// DataSource 를 TimedDataSource 로 감싸서 SQL 문장별 메트릭(jdbc.statement*)을 수집한다
+@Configuration
+@ConditionalOnProperty(name = "jdbc.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor timedDataSourcePostProcessor(ObjectProvider<MeterRegistry> registry,
+                                                                 Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof TimedDataSource) {
+                    return bean;
+                }
+                SqlMetrics metrics = new SqlMetrics(
+                        registry.getObject(),
+                        env.getProperty("jdbc.metrics.slow-threshold", Duration.class, Duration.ofMillis(200)),
+                        env.getProperty("jdbc.metrics.slow-sample-interval", Duration.class, Duration.ofSeconds(10)),
+                        env.getProperty("jdbc.metrics.max-statements", Integer.class, 200));
+                return new TimedDataSource(dataSource, metrics);
+            }
+        };
+    }
+}
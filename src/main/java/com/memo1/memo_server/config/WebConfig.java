@@ -1,12 +1,28 @@
 package com.memo1.memo_server.config;
 
+import com.memo1.memo_server.support.BulkheadInterceptor;
+import com.memo1.memo_server.support.ReadRoutingInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectProvider<BulkheadInterceptor> bulkheadInterceptor;
+    private final ObjectProvider<ReadRoutingInterceptor> readRoutingInterceptor;
+
+    // 읽기 복제본 라우팅 (datasource.routing.enabled), 구획별 동시 실행 제한 (bulkhead.enabled=true 일 때만 등록)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        readRoutingInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/api/**"));
+        bulkheadInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/api/**"));
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -15,5 +31,11 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true)
                 .maxAge(3600);
+        registry.addMapping("/rx/api/**")
+                .allowedOriginPatterns("*")
+                .allowedMethods("GET", "OPTIONS", "HEAD")
+                .allowedHeaders("*")
+                .allowCredentials(true)
+                .maxAge(3600);
     }
 }
\ No newline at end of file
@@ -0,0 +1,194 @@
+package com.memo1.memo_server.controller;
+
+import com.memo1.memo_server.service.AttachmentStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 첨부파일 업로드/다운로드
+// 업로드 응답의 br_file 을 게시글 작성/수정 시 BR_FILE 로 넘긴다.
+// 다운로드는 내용 해시가 곧 ETag 이고 내용이 바뀌지 않으므로 오래 캐시하게 하고, Range(한 구간)를 지원한다.
+// 톰캣이 sendfile 을 지원하면(NIO/NIO2 커넥터 + useSendfile) 파일 경로만 넘겨서 커널이 소켓으로 바로 보낸다 (zero-copy).
+// 지원하지 않으면 서블릿 출력 스트림으로 복사한다. 이 경로는 zero-copy 가 아니다 (아래 send 참고).
+// 어느 쪽이든 파일 전체를 힙에 올리지는 않는다. 어느 경로로 나갔는지는 attachment.downloads{mode} 로 본다.
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/attachments")
+public class AttachmentController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AttachmentStore store;
+    private final MeterRegistry meterRegistry;
+
+    // ==================== 업로드 ====================
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, Object>> upload(@RequestParam("file") MultipartFile file) {
+        String name = StringUtils.getFilename(StringUtils.cleanPath(
+                file.getOriginalFilename() != null ? file.getOriginalFilename() : ""));
+        if (name == null || name.isBlank()) {
+            name = "file";
+        }
+        log.info("첨부파일 업로드 - 이름: {}, 크기: {}", name, file.getSize());
+
+        try (InputStream in = file.getInputStream()) {
+            AttachmentStore.Stored stored = store.store(in, name);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("hash", stored.hash());
+            result.put("size", stored.size());
+            result.put("name", stored.name());
+            result.put("deduplicated", stored.deduplicated());
+            result.put("br_file", stored.reference());
+            result.put("message", "첨부파일이 저장되었습니다.");
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            log.error("첨부파일 업로드 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                        "success", false,
+                        "message", "첨부파일 업로드 실패: " + e.getMessage()
+                    ));
+        }
+    }
+
+    // ==================== 다운로드 ====================
+    // name 은 저장 시 파일명 (조회에는 쓰지 않고 Content-Disposition 에만 사용)
+    @GetMapping("/{hash}/{name}")
+    public ResponseEntity<Map<String, Object>> download(
+            @PathVariable("hash") String hash,
+            @PathVariable("name") String name,
+            WebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        Path path = store.find(hash);
+        if (path == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of(
+                        "success", false,
+                        "message", "첨부파일을 찾을 수 없습니다."
+                    ));
+        }
+
+        // 내용이 같으면 해시도 같으므로 강한 ETag (If-Range 비교에도 사용)
+        String etag = "\"" + hash + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        try {
+            long size = Files.size(path);
+            long start = 0;
+            long length = size;
+
+            // If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체를 보낸다. 여러 구간 요청도 전체로 응답
+            // 형식이 틀린 Range(bytes= 가 아닌 단위 포함)도 무시하고 200 으로 전체를 보낸다 (RFC 9110 14.2)
+            // 416 은 형식은 맞지만 시작이 파일 크기 이상인 범위만
+            String range = request.getHeader(HttpHeaders.RANGE);
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            if (range != null && (ifRange == null || ifRange.equals(etag))) {
+                List<HttpRange> ranges;
+                try {
+                    ranges = HttpRange.parseRanges(range);
+                } catch (IllegalArgumentException e) {
+                    log.debug("잘못된 Range 헤더 무시: {}", range);
+                    ranges = List.of();
+                }
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(size);
+                    if (start >= size) {
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).build();
+                    }
+                    length = ranges.get(0).getRangeEnd(size) - start + 1;
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + length - 1) + "/" + size);
+                }
+            }
+
+            response.setContentType(MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(name, StandardCharsets.UTF_8).build().toString());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+            response.setContentLengthLong(length);
+
+            if (!"HEAD".equals(request.getMethod())) {
+                send(request, response, path, start, length);
+            }
+            return null;
+
+        } catch (Exception e) {
+            log.error("첨부파일 다운로드 오류: {}", e.getMessage(), e);
+            if (response.isCommitted()) {
+                return null;
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                        "success", false,
+                        "message", "첨부파일 다운로드 실패: " + e.getMessage()
+                    ));
+        }
+    }
+
+    private void send(HttpServletRequest request, HttpServletResponse response, Path path, long start, long length)
+            throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            meterRegistry.counter("attachment.downloads", "mode", "sendfile").increment();
+            return;
+        }
+        // sendfile 이 없을 때의 대체 경로. 대상이 소켓 채널이 아니라 출력 스트림을 감싼 채널이라
+        // transferTo 는 커널 복사를 쓰지 못하고, 파일 → 임시 버퍼 → 힙 byte[] → 톰캣 출력 버퍼로 복사된다.
+        // 버퍼 크기만큼씩 나눠 보내므로 메모리는 파일 크기와 관계없이 일정하다
+        meterRegistry.counter("attachment.downloads", "mode", "channel").increment();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
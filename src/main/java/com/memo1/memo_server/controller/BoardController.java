@@ -1,18 +1,49 @@
 package com.memo1.memo_server.controller;
 
+import com.memo1.memo_server.dto.Board;
+import com.memo1.memo_server.dto.BoardSummary;
+import com.memo1.memo_server.event.BoardChangedEvent;
+import com.memo1.memo_server.search.SearchHits;
+import com.memo1.memo_server.service.AttachmentStore;
+import com.memo1.memo_server.service.BoardPostCounter;
+import com.memo1.memo_server.service.BoardRegistry;
+import com.memo1.memo_server.service.BoardSearchIndex;
+import com.memo1.memo_server.service.BulkWriter;
+import com.memo1.memo_server.service.ChangeVersions;
+import com.memo1.memo_server.service.DetailCache;
+import com.memo1.memo_server.service.HotPageCache;
+import com.memo1.memo_server.service.PostInserter;
+import com.memo1.memo_server.support.Bulkhead;
+import com.memo1.memo_server.support.Bulkheads;
+import com.memo1.memo_server.support.JsonRowStreamer;
+import com.memo1.memo_server.support.NdjsonExporter;
+import com.memo1.memo_server.support.SeqCursor;
+import com.memo1.memo_server.support.SingleFlight;
+import com.memo1.memo_server.support.SqlLike;
+import com.memo1.memo_server.support.SqlStatements;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 @Slf4j
 @RestController
@@ -20,55 +51,66 @@ import java.util.Map;
 @RequestMapping("/api/board")
 public class BoardController {
 
-    private final JdbcTemplate jdbc;
+    // COUNT(*) OVER() 로 페이지 행과 함께 받는 총 건수 컬럼
+    private static final String TOTAL_COLUMN = "TOTAL_COUNT";
+
+    private static final String DETAIL_SQL = SqlStatements.named("board.detail",
+            "SELECT " + Board.COLUMNS + " FROM TBOARD WHERE BR_SEQ = ?");
+    private static final String UPDATE_SQL = SqlStatements.named("board.update",
+            "UPDATE TBOARD SET BR_TITLE = ?, BR_CONTENT = ?, BR_FILE = ? OUTPUT INSERTED.BR_CD WHERE BR_SEQ = ?");
+    private static final String DELETE_SQL = SqlStatements.named("board.delete",
+            "DELETE FROM TBOARD OUTPUT DELETED.BR_CD WHERE BR_SEQ = ?");
+    private static final String SEARCH_COUNT_SQL = SqlStatements.named("board.search.count",
+            "SELECT COUNT(*) FROM TBOARD WHERE BR_CD = ? AND (BR_TITLE LIKE ? ESCAPE '\\' OR BR_CONTENT LIKE ? ESCAPE '\\')");
+
+    // 목록 응답의 행 모양: 이름, 조회 컬럼, 매퍼, 스트리밍 writer, 커서 키
+    // 조회 컬럼이 다르면 SQL 문장도 다르므로 문장 이름(SqlStatements)에 view 이름을 붙인다
+    private record View<T>(String name, String columns, RowMapper<T> mapper, JsonRowStreamer.RowWriter writer, ToIntFunction<T> key) {
 
-    // Board RowMapper
-    private final RowMapper<Map<String, Object>> boardRowMapper = new RowMapper<Map<String, Object>>() {
-        @Override
-        public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
-            Map<String, Object> board = new HashMap<>();
-            board.put("br_seq", rs.getInt("BR_SEQ"));
-            board.put("br_cd", rs.getString("BR_CD"));
-            board.put("br_title", rs.getString("BR_TITLE"));
-            board.put("br_content", rs.getString("BR_CONTENT"));
-            board.put("br_file", rs.getString("BR_FILE"));
-            board.put("br_reg_id", rs.getString("BR_REG_ID"));
-            board.put("br_reg_dt", rs.getTimestamp("BR_REG_DT"));
-            return board;
+        String statement(String prefix) {
+            return prefix + "." + name;
         }
-    };
+    }
+
+    private static final View<Board> FULL_VIEW = new View<>("full", Board.COLUMNS, Board.MAPPER, Board::writeJson, Board::brSeq);
+
+    private final JdbcTemplate jdbc;
+    private final BoardPostCounter postCounter;
+    private final AttachmentStore attachmentStore;
+    private final BoardRegistry boardRegistry;
+    private final BoardSearchIndex searchIndex;
+    private final DetailCache detailCache;
+    private final ChangeVersions versions;
+    private final PostInserter postInserter;
+    private final BulkWriter bulkWriter;
+    private final JsonRowStreamer streamer;
+    private final NdjsonExporter exporter;
+    private final ApplicationEventPublisher events;
+    private final SingleFlight singleFlight;
+    private final Bulkheads bulkheads;
+    private final HotPageCache hotPages;
+
+    // true 면 목록/검색 결과를 List 로 모으지 않고 ResultSet 에서 바로 JSON 으로 쓴다
+    @Value("${response.streaming:false}")
+    private boolean streaming;
+
+    // view=summary 일 때 BR_CONTENT 대신 내려주는 미리보기 길이
+    @Value("${board.summary.preview-length:100}")
+    private int previewLength;
 
     // ==================== 게시판 정보 조회 ====================
+    // 이름/설명은 등록부, 게시글 수는 메모리 카운터에서 읽는다 (DB 조회 없음)
     @GetMapping("/info")
     public ResponseEntity<Map<String, Object>> getBoardInfo(@RequestParam("brCd") String brCd) {
         log.info("게시판 정보 조회 - BR_CD: {}", brCd);
         try {
-            Map<String, Object> boardInfo = new HashMap<>();
-            String brNm = "";
-            String description = "";
-
-            switch (brCd) {
-                case "B1":
-                    brNm = "공지사항";
-                    description = "공지사항 게시판입니다.";
-                    break;
-                case "B2":
-                    brNm = "자유게시판";
-                    description = "자유롭게 글을 작성할 수 있는 게시판입니다.";
-                    break;
-                case "B3":
-                    brNm = "문의게시판";
-                    description = "문의사항을 올리는 게시판입니다.";
-                    break;
-                default:
-                    brNm = "게시판 " + brCd;
-                    description = brCd + " 게시판입니다.";
-            }
+            BoardRegistry.Info info = boardRegistry.info(brCd);
 
-            boardInfo.put("brNm", brNm);
-            boardInfo.put("brCd", brCd);
-            boardInfo.put("description", description);
-            boardInfo.put("totalPosts", getBoardPostCount(brCd));
+            Map<String, Object> boardInfo = new HashMap<>();
+            boardInfo.put("brNm", info.brNm());
+            boardInfo.put("brCd", info.brCd());
+            boardInfo.put("description", info.description());
+            boardInfo.put("totalPosts", info.totalPosts());
 
             return ResponseEntity.ok(boardInfo);
         } catch (Exception e) {
@@ -83,40 +125,78 @@ public class BoardController {
     }
 
     // ==================== 게시글 목록 조회 ====================
+    // afterSeq 또는 cursor 가 있으면 키셋(seek) 방식, 없으면 기존 OFFSET 방식
+    // total=false 면 전체 건수 없이 hasNext 만 반환 (무한 스크롤용)
+    // view=summary 면 BR_CONTENT 대신 앞부분 미리보기(br_preview)만 조회
+    // 등록된 게시판의 앞쪽 페이지는 미리 직렬화해 둔 바이트로 응답 (HotPageCache)
+    @Bulkhead(value = "list", coalesced = true)
     @GetMapping("/posts")
-    public ResponseEntity<Map<String, Object>> getBoardPosts(
+    public ResponseEntity<?> getBoardPosts(
             @RequestParam("brCd") String brCd,
             @RequestParam(value = "page", defaultValue = "1") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size) {
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "afterSeq", required = false) Integer afterSeq,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "total", defaultValue = "true") boolean withTotal,
+            @RequestParam(value = "view", defaultValue = "full") String viewName,
+            WebRequest webRequest,
+            HttpServletResponse response) {
         
-        log.info("게시글 목록 조회 - BR_CD: {}, page: {}, size: {}", brCd, page, size);
+        log.info("게시글 목록 조회 - BR_CD: {}, page: {}, size: {}, cursor: {}", brCd, page, size,
+                afterSeq != null ? afterSeq : cursor);
 
+        // 게시판이 바뀌지 않았으면 쿼리 없이 304
+        String version = versions.boardList(brCd);
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+        if (afterSeq == null && cursor == null && withTotal && hotPages.covers(brCd, page, size)) {
+            ResponseEntity<byte[]> hot = hotPages.get(
+                    new HotPageCache.Key(brCd, page, size, "summary".equalsIgnoreCase(viewName) ? "summary" : "full"),
+                    version,
+                    HotPageCache.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING)),
+                    key -> bulkheads.execute("list", () -> hotPage(view(key.view()), key)));
+            if (hot != null) {
+                return hot;
+            }
+        }
+        return coalesce("list", "board.posts", version,
+                () -> boardPosts(brCd, page, size, afterSeq, cursor, withTotal, viewName, response),
+                brCd, page, size, afterSeq, cursor, withTotal, viewName);
+    }
+
+    private ResponseEntity<Map<String, Object>> boardPosts(String brCd, int page, int size, Integer afterSeq, String cursor,
+                                                           boolean withTotal, String viewName, HttpServletResponse response) {
         try {
+            View<?> view = view(viewName);
+            Integer lastSeq = SeqCursor.resolve(afterSeq, cursor);
+            if (lastSeq != null) {
+                String sql = SqlStatements.named(view.statement("board.list.keyset"),
+                            "SELECT " + view.columns() + " FROM TBOARD WHERE BR_CD = ? AND BR_SEQ < ? " +
+                            "ORDER BY BR_SEQ DESC " +
+                            "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY");
+
+                return keysetPage(response, view, size, sql, brCd, lastSeq, size + 1);
+            }
+
             if (page < 1) page = 1;
             int offset = (page - 1) * size;
             
-            // 총 게시글 수
-            int totalCount = getBoardPostCount(brCd);
-            int totalPages = (int) Math.ceil((double) totalCount / size);
-            
             // 페이지네이션 쿼리
-            String sql = "SELECT * FROM TBOARD WHERE BR_CD = ? " +
-                        "ORDER BY BR_SEQ DESC " +
-                        "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+            String sql = listSql(view);
+
+            if (!withTotal) {
+                return slicePage(response, view, page, size, sql, brCd, offset, size + 1);
+            }
             
-            List<Map<String, Object>> posts = jdbc.query(sql, boardRowMapper, brCd, offset, size);
+            // 총 게시글 수
+            int totalCount = getBoardPostCount(brCd);
             
             // 응답 데이터 구성
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("content", posts);
-            response.put("totalPages", totalPages);
-            response.put("currentPage", page);
-            response.put("totalElements", totalCount);
-            response.put("size", size);
-            
-            return ResponseEntity.ok(response);
+            return offsetPage(response, view, page, size, totalCount, sql, brCd, offset, size);
             
+        } catch (SeqCursor.InvalidCursorException e) {
+            return invalidCursor(e);
         } catch (Exception e) {
             log.error("게시글 목록 조회 오류: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -127,15 +207,47 @@ public class BoardController {
         }
     }
 
+    // ==================== 게시판 내보내기 (NDJSON) ====================
+    @Bulkhead("export")
+    @GetMapping("/export")
+    public ResponseEntity<Map<String, Object>> exportBoard(
+            @RequestParam("brCd") String brCd,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        log.info("게시판 내보내기 요청 - BR_CD: {}, gzip: {}", brCd, gzip);
+
+        try {
+            exporter.export(response, "board-" + brCd, gzip, Board::writeJson,
+                SqlStatements.named("board.export", "SELECT " + Board.COLUMNS + " FROM TBOARD WHERE BR_CD = ? ORDER BY BR_SEQ DESC"),
+                brCd);
+            return null;
+
+        } catch (Exception e) {
+            log.error("게시판 내보내기 오류: {}", e.getMessage(), e);
+            if (response.isCommitted()) {
+                return null;
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                        "success", false,
+                        "message", "게시판 내보내기 실패: " + e.getMessage()
+                    ));
+        }
+    }
+
     // ==================== 게시글 상세 조회 ====================
+    @Bulkhead("detail")
     @GetMapping("/detail/{seq}")
-    public ResponseEntity<Map<String, Object>> getBoardDetail(@PathVariable("seq") int seq) {
+    public ResponseEntity<?> getBoardDetail(@PathVariable("seq") int seq, WebRequest webRequest) {
         log.info("게시글 상세 조회 - SEQ: {}", seq);
+        if (webRequest.checkNotModified(versions.boardPost(seq))) {
+            return null;
+        }
         try {
-            Map<String, Object> board = jdbc.queryForObject(
-                    "SELECT * FROM TBOARD WHERE BR_SEQ = ?",
-                    boardRowMapper,
-                    seq);
+            Board board = detailCache.board(seq, () -> jdbc.queryForObject(
+                    DETAIL_SQL,
+                    Board.MAPPER,
+                    seq));
             return ResponseEntity.ok(board);
         } catch (Exception e) {
             log.warn("게시글을 찾을 수 없습니다: {}", e.getMessage());
@@ -145,6 +257,7 @@ public class BoardController {
     }
 
     // ==================== 게시글 작성 ====================
+    @Bulkhead("write")
     @PostMapping("/write")
     public ResponseEntity<Map<String, Object>> createBoard(@RequestBody Map<String, Object> param) {
         log.info("게시글 작성 요청: {}", param);
@@ -165,18 +278,15 @@ public class BoardController {
             // 선택적 파라미터
             String file = (String) param.getOrDefault("br_file", "");
             String regId = (String) param.getOrDefault("br_reg_id", "user");
+
+            if (!attachmentStore.isValidReference(file)) {
+                return missingAttachment(file);
+            }
             
-            // 게시글 저장
-            jdbc.update(
-                "INSERT INTO TBOARD (BR_CD, BR_TITLE, BR_CONTENT, BR_FILE, BR_REG_ID) VALUES (?, ?, ?, ?, ?)",
-                brCd, title, content, file, regId
-            );
-            
-            // 생성된 ID 가져오기
-            Integer lastSeq = jdbc.queryForObject(
-                "SELECT MAX(BR_SEQ) FROM TBOARD WHERE BR_CD = ?", 
-                Integer.class, brCd
-            );
+            // 게시글 저장 (생성된 BR_SEQ 를 같이 받는다)
+            int lastSeq = postInserter.board(brCd, title, content, file, regId);
+
+            events.publishEvent(new BoardChangedEvent(BoardChangedEvent.Type.CREATED, lastSeq, brCd, title, content));
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -195,6 +305,7 @@ public class BoardController {
     }
 
     // ==================== 게시글 수정 ====================
+    @Bulkhead("write")
     @PutMapping("/update/{seq}")
     public ResponseEntity<Map<String, Object>> updateBoard(
             @PathVariable("seq") int seq,
@@ -206,11 +317,20 @@ public class BoardController {
             String title = (String) param.getOrDefault("br_title", "");
             String content = (String) param.getOrDefault("br_content", "");
             String file = (String) param.getOrDefault("br_file", "");
+
+            if (!attachmentStore.isValidReference(file)) {
+                return missingAttachment(file);
+            }
             
-            int affectedRows = jdbc.update(
-                "UPDATE TBOARD SET BR_TITLE = ?, BR_CONTENT = ?, BR_FILE = ? WHERE BR_SEQ = ?",
+            List<String> updated = jdbc.queryForList(
+                UPDATE_SQL,
+                String.class,
                 title, content, file, seq
             );
+            int affectedRows = updated.size();
+            for (String brCd : updated) {
+                events.publishEvent(new BoardChangedEvent(BoardChangedEvent.Type.UPDATED, seq, brCd, title, content));
+            }
             
             Map<String, Object> result = new HashMap<>();
             result.put("success", affectedRows > 0);
@@ -230,15 +350,22 @@ public class BoardController {
     }
 
     // ==================== 게시글 삭제 ====================
+    @Bulkhead("write")
     @DeleteMapping("/delete/{seq}")
     public ResponseEntity<Map<String, Object>> deleteBoard(@PathVariable("seq") int seq) {
         log.info("게시글 삭제 - SEQ: {}", seq);
         
         try {
-            int affectedRows = jdbc.update(
-                "DELETE FROM TBOARD WHERE BR_SEQ = ?",
+            // 삭제된 글의 BR_CD 를 함께 받아 게시판별 카운터를 갱신
+            List<String> deleted = jdbc.queryForList(
+                DELETE_SQL,
+                String.class,
                 seq
             );
+            int affectedRows = deleted.size();
+            for (String brCd : deleted) {
+                events.publishEvent(new BoardChangedEvent(BoardChangedEvent.Type.DELETED, seq, brCd, null, null));
+            }
             
             Map<String, Object> result = new HashMap<>();
             result.put("success", affectedRows > 0);
@@ -257,54 +384,134 @@ public class BoardController {
         }
     }
 
+    // ==================== 게시글 대량 작성/삭제 ====================
+    // 본문: [{"br_cd": ..., "br_title": ..., "br_content": ...}, ...] 를 스트리밍으로 읽어 chunk 단위로 넣는다
+    @Bulkhead("bulk")
+    @PostMapping("/bulk/write")
+    public ResponseEntity<Map<String, Object>> bulkWrite(HttpServletRequest request) {
+        log.info("게시글 대량 작성 요청");
+
+        try {
+            BulkWriter.Report report = bulkWriter.boards(request.getInputStream());
+            return ResponseEntity.status(report.error() != null ? HttpStatus.BAD_REQUEST : HttpStatus.OK)
+                    .body(report.toBody());
+
+        } catch (Exception e) {
+            log.error("게시글 대량 작성 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                        "success", false,
+                        "message", "게시글 대량 작성 실패: " + e.getMessage()
+                    ));
+        }
+    }
+
+    // 본문: [seq, seq, ...]
+    @Bulkhead("bulk")
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<Map<String, Object>> bulkDelete(HttpServletRequest request) {
+        log.info("게시글 대량 삭제 요청");
+
+        try {
+            BulkWriter.Report report = bulkWriter.deleteBoards(request.getInputStream());
+            return ResponseEntity.status(report.error() != null ? HttpStatus.BAD_REQUEST : HttpStatus.OK)
+                    .body(report.toBody());
+
+        } catch (Exception e) {
+            log.error("게시글 대량 삭제 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                        "success", false,
+                        "message", "게시글 대량 삭제 실패: " + e.getMessage()
+                    ));
+        }
+    }
+
     // ==================== 게시글 검색 ====================
+    @Bulkhead(value = "search", coalesced = true)
     @GetMapping("/search")
     public ResponseEntity<Map<String, Object>> searchBoard(
             @RequestParam("brCd") String brCd,
             @RequestParam("keyword") String keyword,
             @RequestParam(value = "page", defaultValue = "1") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size) {
-        
-        log.info("게시글 검색 - BR_CD: {}, 키워드: {}, page: {}", brCd, keyword, page);
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "afterSeq", required = false) Integer afterSeq,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "total", defaultValue = "true") boolean withTotal,
+            @RequestParam(value = "view", defaultValue = "full") String viewName,
+            WebRequest webRequest,
+            HttpServletResponse response) {
         
+        log.info("게시글 검색 - BR_CD: {}, 키워드: {}, page: {}, cursor: {}", brCd, keyword, page,
+                afterSeq != null ? afterSeq : cursor);
+
+        String version = versions.boardList(brCd);
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+        return coalesce("search", "board.search", version,
+                () -> searchPosts(brCd, keyword, page, size, afterSeq, cursor, withTotal, viewName, response),
+                brCd, keyword, page, size, afterSeq, cursor, withTotal, viewName);
+    }
+
+    private ResponseEntity<Map<String, Object>> searchPosts(String brCd, String keyword, int page, int size, Integer afterSeq,
+                                                            String cursor, boolean withTotal, String viewName,
+                                                            HttpServletResponse response) {
         try {
-            String searchKeyword = "%" + keyword + "%";
-            
-            // 총 검색 결과 수
-            Integer totalCount = jdbc.queryForObject(
-                "SELECT COUNT(*) FROM TBOARD WHERE BR_CD = ? AND (BR_TITLE LIKE ? OR BR_CONTENT LIKE ?)",
-                Integer.class,
-                brCd, searchKeyword, searchKeyword
-            );
+            View<?> view = view(viewName);
+            Integer lastSeq = SeqCursor.resolve(afterSeq, cursor);
+
+            // 역색인이 준비되어 있으면 메모리에서 일치 목록/건수를 구하고 해당 페이지만 조회
+            int[] matches = searchIndex.match(brCd, keyword);
+            if (matches != null) {
+                return ResponseEntity.ok(indexedPage(view, matches, lastSeq, page, size));
+            }
+
+            String searchKeyword = SqlLike.contains(keyword);
+
+            if (lastSeq != null) {
+                String sql = SqlStatements.named(view.statement("board.search.keyset"),
+                            "SELECT " + view.columns() + " FROM TBOARD WHERE BR_CD = ? AND (BR_TITLE LIKE ? ESCAPE '\\' OR BR_CONTENT LIKE ? ESCAPE '\\') " +
+                            "AND BR_SEQ < ? " +
+                            "ORDER BY BR_SEQ DESC " +
+                            "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY");
+
+                return keysetPage(response, view, size, sql, brCd, searchKeyword, searchKeyword, lastSeq, size + 1);
+            }
             
-            if (totalCount == null) totalCount = 0;
-            int totalPages = (int) Math.ceil((double) totalCount / size);
+            if (page < 1) page = 1;
             int offset = (page - 1) * size;
+
+            if (!withTotal) {
+                String sql = SqlStatements.named(view.statement("board.search.slice"),
+                            "SELECT " + view.columns() + " FROM TBOARD WHERE BR_CD = ? AND (BR_TITLE LIKE ? ESCAPE '\\' OR BR_CONTENT LIKE ? ESCAPE '\\') " +
+                            "ORDER BY BR_SEQ DESC " +
+                            "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY");
+
+                return slicePage(response, view, page, size, sql, brCd, searchKeyword, searchKeyword, offset, size + 1);
+            }
             
-            // 검색 결과 조회
-            String sql = "SELECT * FROM TBOARD WHERE BR_CD = ? AND (BR_TITLE LIKE ? OR BR_CONTENT LIKE ?) " +
+            // 검색 결과와 총 검색 결과 수를 한 번에 조회 (COUNT 쿼리 별도 실행 없음)
+            String sql = SqlStatements.named(view.statement("board.search"),
+                        "SELECT " + view.columns() + ", COUNT(*) OVER() AS " + TOTAL_COLUMN + " " +
+                        "FROM TBOARD WHERE BR_CD = ? AND (BR_TITLE LIKE ? ESCAPE '\\' OR BR_CONTENT LIKE ? ESCAPE '\\') " +
                         "ORDER BY BR_SEQ DESC " +
-                        "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
-            
-            List<Map<String, Object>> posts = jdbc.query(
-                sql, boardRowMapper, 
-                brCd, searchKeyword, searchKeyword, offset, size
-            );
-            
-
+                        "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY");
 
+            // 마지막 페이지를 넘어간 요청은 행이 없어 건수를 알 수 없으므로 그때만 COUNT 를 따로 실행
+            IntSupplier countIfEmpty = () -> {
+                Integer count = jdbc.queryForObject(
+                    SEARCH_COUNT_SQL,
+                    Integer.class,
+                    brCd, searchKeyword, searchKeyword
+                );
+                return count != null ? count : 0;
+            };
 
-            ////////////////////
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("content", posts);
-            response.put("totalPages", totalPages);
-            response.put("currentPage", page);
-            response.put("totalElements", totalCount);
-            response.put("size", size);
-            
-            return ResponseEntity.ok(response);
+            return windowedPage(response, view, page, size, countIfEmpty, sql, brCd, searchKeyword, searchKeyword, offset, size);
             
+        } catch (SeqCursor.InvalidCursorException e) {
+            return invalidCursor(e);
         } catch (Exception e) {
             log.error("게시글 검색 오류: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -316,14 +523,216 @@ public class BoardController {
     }
 
     // ==================== 헬퍼 메서드 ====================
+    // 같은 게시판 버전에 같은 파라미터로 동시에 들어온 조회는 DB 조회 하나를 같이 기다린다
+    // 스트리밍 모드는 각 요청의 응답에 직접 쓰므로 합치지 않는다
+    // 구획(bulkhead) 자리는 DB 를 읽는 leader 만 잡는다. 결과를 기다리는 요청은 자리를 차지하지 않는다
+    private ResponseEntity<Map<String, Object>> coalesce(String bulkhead, String name, String version,
+                                                         Supplier<ResponseEntity<Map<String, Object>>> loader,
+                                                         Object... params) {
+        try {
+            if (streaming) {
+                return bulkheads.execute(bulkhead, loader);
+            }
+            List<Object> key = new ArrayList<>(params.length + 1);
+            key.add(version);
+            key.addAll(Arrays.asList(params));
+            return singleFlight.execute(name, key, () -> bulkheads.execute(bulkhead, loader));
+        } catch (Bulkheads.RejectedException e) {
+            return Bulkheads.rejected();
+        }
+    }
+
+    private static String listSql(View<?> view) {
+        return SqlStatements.named(view.statement("board.list"),
+                "SELECT " + view.columns() + " FROM TBOARD WHERE BR_CD = ? " +
+                "ORDER BY BR_SEQ DESC " +
+                "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY");
+    }
+
+    // HotPageCache 에 담을 OFFSET 페이지 본문 (스트리밍 설정과 관계없이 Map 으로 만든다)
+    private <T> Map<String, Object> hotPage(View<T> view, HotPageCache.Key key) {
+        List<T> posts = jdbc.query(listSql(view), view.mapper(), key.brCd(), (key.page() - 1) * key.size(), key.size());
+        return offsetResponse(view, posts, key.page(), key.size(), getBoardPostCount(key.brCd()));
+    }
+
+    private View<?> view(String name) {
+        if ("summary".equalsIgnoreCase(name)) {
+            return new View<>("summary", BoardSummary.columns(previewLength), BoardSummary.MAPPER, BoardSummary::writeJson, BoardSummary::brSeq);
+        }
+        return FULL_VIEW;
+    }
+
+    // OFFSET 페이지 응답. 스트리밍 모드면 응답에 바로 쓰고 null 을 반환한다
+    private <T> ResponseEntity<Map<String, Object>> offsetPage(HttpServletResponse response, View<T> view, int page, int size,
+                                                               int totalCount, String sql, Object... args) throws IOException {
+        if (!streaming) {
+            return ResponseEntity.ok(offsetResponse(view, jdbc.query(sql, view.mapper(), args), page, size, totalCount));
+        }
+        int totalPages = (int) Math.ceil((double) totalCount / size);
+        streamer.write(response, g -> {
+            g.writeBooleanField("success", true);
+            g.writeNumberField("totalPages", totalPages);
+            g.writeNumberField("currentPage", page);
+            g.writeNumberField("totalElements", totalCount);
+            g.writeNumberField("size", size);
+            JsonRowStreamer.Rows rows = streamer.writeRows(g, "content", size, view.writer(), sql, args);
+            g.writeStringField("nextCursor",
+                page < totalPages && rows.lastKey() != null ? SeqCursor.encode(rows.lastKey()) : null);
+        });
+        return null;
+    }
+
+    // 총 건수를 마지막 컬럼(COUNT(*) OVER())에서 읽는 OFFSET 페이지 응답. 행이 없으면 countIfEmpty 로 구한다
+    private <T> ResponseEntity<Map<String, Object>> windowedPage(HttpServletResponse response, View<T> view, int page, int size,
+                                                                 IntSupplier countIfEmpty, String sql, Object... args) throws IOException {
+        int[] total = {-1};
+        if (!streaming) {
+            List<T> posts = jdbc.query(sql, (rs, rowNum) -> {
+                if (rowNum == 0) {
+                    total[0] = rs.getInt(TOTAL_COLUMN);
+                }
+                return view.mapper().mapRow(rs, rowNum);
+            }, args);
+            int totalCount = total[0] >= 0 ? total[0] : (page == 1 ? 0 : countIfEmpty.getAsInt());
+            return ResponseEntity.ok(offsetResponse(view, posts, page, size, totalCount));
+        }
+        streamer.write(response, g -> {
+            g.writeBooleanField("success", true);
+            g.writeNumberField("currentPage", page);
+            g.writeNumberField("size", size);
+            JsonRowStreamer.Rows rows = streamer.writeRows(g, "content", size, (gen, rs) -> {
+                if (total[0] < 0) {
+                    total[0] = rs.getInt(TOTAL_COLUMN);
+                }
+                view.writer().write(gen, rs);
+            }, sql, args);
+            int totalCount = total[0] >= 0 ? total[0] : (page == 1 ? 0 : countIfEmpty.getAsInt());
+            int totalPages = (int) Math.ceil((double) totalCount / size);
+            g.writeNumberField("totalPages", totalPages);
+            g.writeNumberField("totalElements", totalCount);
+            g.writeStringField("nextCursor",
+                page < totalPages && rows.lastKey() != null ? SeqCursor.encode(rows.lastKey()) : null);
+        });
+        return null;
+    }
+
+    // 총 건수 없는 OFFSET 페이지 응답 (sql 은 size + 1 건을 조회해서 hasNext 판단)
+    private <T> ResponseEntity<Map<String, Object>> slicePage(HttpServletResponse response, View<T> view, int page, int size,
+                                                              String sql, Object... args) throws IOException {
+        if (!streaming) {
+            Map<String, Object> body = keysetResponse(view, jdbc.query(sql, view.mapper(), args), size);
+            body.put("currentPage", page);
+            return ResponseEntity.ok(body);
+        }
+        streamer.write(response, g -> {
+            g.writeBooleanField("success", true);
+            g.writeNumberField("currentPage", page);
+            g.writeNumberField("size", size);
+            JsonRowStreamer.Rows rows = streamer.writeRows(g, "content", size, view.writer(), sql, args);
+            g.writeBooleanField("hasNext", rows.hasMore());
+            g.writeStringField("nextCursor", rows.hasMore() ? SeqCursor.encode(rows.lastKey()) : null);
+        });
+        return null;
+    }
+
+    // 키셋 페이지 응답 (sql 은 size + 1 건을 조회). 스트리밍 모드면 응답에 바로 쓰고 null 을 반환한다
+    private <T> ResponseEntity<Map<String, Object>> keysetPage(HttpServletResponse response, View<T> view, int size,
+                                                               String sql, Object... args) throws IOException {
+        if (!streaming) {
+            return ResponseEntity.ok(keysetResponse(view, jdbc.query(sql, view.mapper(), args), size));
+        }
+        streamer.write(response, g -> {
+            g.writeBooleanField("success", true);
+            g.writeNumberField("size", size);
+            JsonRowStreamer.Rows rows = streamer.writeRows(g, "content", size, view.writer(), sql, args);
+            g.writeBooleanField("hasNext", rows.hasMore());
+            g.writeStringField("nextCursor", rows.hasMore() ? SeqCursor.encode(rows.lastKey()) : null);
+        });
+        return null;
+    }
+
+    private <T> Map<String, Object> offsetResponse(View<T> view, List<T> posts, int page, int size, int totalCount) {
+        int totalPages = (int) Math.ceil((double) totalCount / size);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("content", posts);
+        response.put("totalPages", totalPages);
+        response.put("currentPage", page);
+        response.put("totalElements", totalCount);
+        response.put("size", size);
+        response.put("nextCursor", page < totalPages ? nextCursor(view, posts) : null);
+        return response;
+    }
+
+    // 색인 검색 결과 페이지의 BR_SEQ 들로 본문 조회 (최신순)
+    // 역색인 일치 목록에서 페이지 구간만 잘라 조회
+    private <T> Map<String, Object> indexedPage(View<T> view, int[] matches, Integer lastSeq, int page, int size) {
+        if (lastSeq != null) {
+            return keysetResponse(view, findBySeqs(view, SearchHits.before(matches, lastSeq, size + 1)), size);
+        }
+        return offsetResponse(view,
+            findBySeqs(view, SearchHits.page(matches, (Math.max(page, 1) - 1) * size, size)),
+            Math.max(page, 1), size, matches.length
+        );
+    }
+
+    private <T> List<T> findBySeqs(View<T> view, int[] seqs) {
+        if (seqs.length == 0) {
+            return List.of();
+        }
+        // IN 목록 길이를 정해진 크기로 맞춰서 페이지 크기마다 다른 문장이 생기지 않게 한다
+        int inSize = SqlStatements.inListSize(seqs.length);
+        String sql = SqlStatements.named(view.statement("board.by-seqs"),
+                "SELECT " + view.columns() + " FROM TBOARD WHERE BR_SEQ IN (" + SqlStatements.inList(inSize) + ") ORDER BY BR_SEQ DESC");
+        Object[] args = new Object[seqs.length];
+        for (int i = 0; i < seqs.length; i++) {
+            args[i] = seqs[i];
+        }
+        return jdbc.query(sql, view.mapper(), SqlStatements.padInList(args, inSize));
+    }
+
+    // size + 1 건을 조회해서 다음 페이지 존재 여부를 판단 (COUNT 없음)
+    private <T> Map<String, Object> keysetResponse(View<T> view, List<T> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<T> posts = hasNext ? rows.subList(0, size) : rows;
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("content", posts);
+        response.put("size", size);
+        response.put("hasNext", hasNext);
+        response.put("nextCursor", hasNext ? nextCursor(view, posts) : null);
+        return response;
+    }
+
+    private <T> String nextCursor(View<T> view, List<T> posts) {
+        if (posts.isEmpty()) {
+            return null;
+        }
+        return SeqCursor.encode(view.key().applyAsInt(posts.get(posts.size() - 1)));
+    }
+
+    // BR_FILE 이 /api/attachments/ 참조인데 저장소에 없는 경우
+    private ResponseEntity<Map<String, Object>> missingAttachment(String file) {
+        log.warn("첨부파일 참조를 찾을 수 없습니다: {}", file);
+        return ResponseEntity.badRequest().body(Map.of(
+            "success", false,
+            "message", "첨부파일을 찾을 수 없습니다. 먼저 /api/attachments 로 업로드하세요."
+        ));
+    }
+
+    private ResponseEntity<Map<String, Object>> invalidCursor(SeqCursor.InvalidCursorException e) {
+        log.warn("잘못된 페이지 커서: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of(
+            "success", false,
+            "message", e.getMessage()
+        ));
+    }
+
     private int getBoardPostCount(String brCd) {
         try {
-            Integer count = jdbc.queryForObject(
-                "SELECT COUNT(*) FROM TBOARD WHERE BR_CD = ?",
-                Integer.class,
-                brCd
-            );
-            return count != null ? count : 0;
+            return postCounter.get(brCd);
         } catch (Exception e) {
             log.warn("게시글 수 조회 오류: {}", e.getMessage());
             return 0;
@@ -0,0 +1,73 @@
+package com.memo1.memo_server.controller;
+
+import com.memo1.memo_server.service.ChangeFeed;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// 게시글/메모 변경 알림 구독 (text/event-stream)
+// GET /api/feed?topics=board:B1,memo  (생략하면 board,memo = 전체)
+// 이벤트 이름은 board / memo, data 는 {"type":"CREATED|UPDATED|DELETED", "br_seq"/"fid", ...}
+// reset 이벤트를 받으면 놓친 변경이 있으니 목록을 다시 조회한다.
+// 브라우저 EventSource 는 끊기면 Last-Event-ID 를 붙여 자동으로 다시 연결한다.
+// 응답은 서블릿 비동기 + 논블로킹 출력으로 ChangeFeed 가 직접 쓴다 (느린 클라이언트가 전송 스레드를 잡지 않게)
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/feed")
+public class FeedController {
+
+    private static final Pattern TOPIC = Pattern.compile("board|board:[A-Za-z0-9_]{1,20}|memo");
+    private static final int MAX_TOPICS = 20;
+
+    private final ChangeFeed changeFeed;
+
+    @GetMapping(produces = "text/event-stream")
+    public ResponseEntity<Void> subscribe(
+            @RequestParam(value = "topics", defaultValue = "board,memo") String topics,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Set<String> requested = new LinkedHashSet<>();
+        for (String topic : topics.split(",")) {
+            if (!topic.isBlank()) {
+                requested.add(topic.trim());
+            }
+        }
+        if (requested.isEmpty() || requested.size() > MAX_TOPICS
+                || !requested.stream().allMatch(t -> TOPIC.matcher(t).matches())) {
+            log.warn("잘못된 구독 토픽: {}", topics);
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!changeFeed.accepting()) {
+            log.warn("변경 알림 구독자 수 한도 초과");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        // 프록시(nginx)가 응답을 모아 두지 않도록
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext async = request.startAsync(request, response);
+        changeFeed.subscribe(async, requested, lastEventId);
+        return null;
+    }
+}
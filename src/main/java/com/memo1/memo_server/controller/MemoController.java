@@ -1,16 +1,41 @@
 package com.memo1.memo_server.controller;
 
+import com.memo1.memo_server.dto.Memo;
+import com.memo1.memo_server.event.MemoChangedEvent;
+import com.memo1.memo_server.service.BulkWriter;
+import com.memo1.memo_server.service.ChangeVersions;
+import com.memo1.memo_server.service.DetailCache;
+import com.memo1.memo_server.service.MemoSearchIndex;
+import com.memo1.memo_server.service.MemoStats;
+import com.memo1.memo_server.service.PostInserter;
+import com.memo1.memo_server.support.Bulkhead;
+import com.memo1.memo_server.support.Bulkheads;
+import com.memo1.memo_server.support.JsonRowStreamer;
+import com.memo1.memo_server.support.NdjsonExporter;
+import com.memo1.memo_server.support.SingleFlight;
+import com.memo1.memo_server.support.SqlLike;
+import com.memo1.memo_server.support.SqlStatements;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Slf4j
 @RestController
@@ -19,27 +44,69 @@ import java.util.Map;
 @Transactional
 public class MemoController {
 
+    private static final int FID_CHUNK = 1000;
+
+    private static final String LIST_SQL = SqlStatements.named("memo.list",
+            "SELECT " + Memo.COLUMNS + " FROM MEMO ORDER BY FID DESC");
+    private static final String EXPORT_SQL = SqlStatements.named("memo.export",
+            "SELECT " + Memo.COLUMNS + " FROM MEMO ORDER BY FID DESC");
+    private static final String DETAIL_SQL = SqlStatements.named("memo.detail",
+            "SELECT " + Memo.COLUMNS + " FROM MEMO WHERE FID = ?");
+    private static final String SEARCH_SQL = SqlStatements.named("memo.search",
+            "SELECT " + Memo.COLUMNS + " FROM MEMO WHERE FTITLE LIKE ? ESCAPE '\\' OR FCONTENT LIKE ? ESCAPE '\\' ORDER BY FID DESC");
+    private static final String UPDATE_SQL = SqlStatements.named("memo.update",
+            "UPDATE MEMO SET FTITLE = ?, FCONTENT = ? " +
+            "OUTPUT DELETED.FID, DELETED.FTITLE, DELETED.FCONTENT, DELETED.FCREATED_AT WHERE FID = ?");
+    private static final String DELETE_SQL = SqlStatements.named("memo.delete",
+            "DELETE FROM MEMO OUTPUT DELETED.FID, DELETED.FTITLE, DELETED.FCONTENT, DELETED.FCREATED_AT WHERE FID = ?");
+
     private final JdbcTemplate jdbc;
+    private final MemoSearchIndex searchIndex;
+    private final MemoStats memoStats;
+    private final DetailCache detailCache;
+    private final ChangeVersions versions;
+    private final PostInserter postInserter;
+    private final BulkWriter bulkWriter;
+    private final JsonRowStreamer streamer;
+    private final NdjsonExporter exporter;
+    private final ApplicationEventPublisher events;
+    private final SingleFlight singleFlight;
+    private final Bulkheads bulkheads;
+
+    // true 면 목록/검색 결과를 List 로 모으지 않고 ResultSet 에서 바로 JSON 으로 쓴다
+    @Value("${response.streaming:false}")
+    private boolean streaming;
 
     // ==================== 모든 메모 조회 ====================
+    // stream=true 면 목록을 모으지 않고 ResultSet 에서 바로 JSON 으로 쓴다
+    // 합쳐진 조회를 기다리는 요청이 커넥션을 잡지 않도록 트랜잭션을 미리 열지 않는다 (SUPPORTS)
+    @Bulkhead(value = "list", coalesced = true)
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllMemos() {
-        log.info("메모 전체 조회 요청");
-        
-        try {
-            List<Map<String, Object>> result = jdbc.queryForList(
-                "SELECT FID, FTITLE, FCONTENT, FCREATED_AT FROM MEMO ORDER BY FID DESC"
-            );
-            
-            log.info("조회된 메모 개수: {}", result.size());
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResponseEntity<Map<String, Object>> getAllMemos(
+            @RequestParam(value = "stream", defaultValue = "false") boolean stream,
+            WebRequest webRequest,
+            HttpServletResponse response) {
+        log.info("메모 전체 조회 요청 - stream: {}", stream);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("content", result);
-            response.put("totalElements", result.size());
-            response.put("message", "메모 조회 성공");
-            
-            return ResponseEntity.ok(response);
+        // 메모가 바뀌지 않았으면 쿼리 없이 304
+        String version = versions.memoList();
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+        if (stream) {
+            try {
+                return bulkheads.execute("list", () -> allMemos(response, true));
+            } catch (Bulkheads.RejectedException e) {
+                return Bulkheads.rejected();
+            }
+        }
+        return coalesce("list", "memo.list", version, () -> allMemos(response, false));
+    }
+
+    private ResponseEntity<Map<String, Object>> allMemos(HttpServletResponse response, boolean stream) {
+        try {
+            return memoList(response, stream, "메모 조회 성공", LIST_SQL);
             
         } catch (Exception e) {
             log.error("메모 조회 오류: {}", e.getMessage(), e);
@@ -51,16 +118,49 @@ public class MemoController {
         }
     }
 
+    // ==================== 메모 내보내기 (NDJSON) ====================
+    // 긴 스트리밍 동안 트랜잭션을 잡고 있지 않도록 트랜잭션 없이 실행
+    @Bulkhead("export")
+    @GetMapping("/export")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<Map<String, Object>> exportMemos(
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        log.info("메모 내보내기 요청 - gzip: {}", gzip);
+
+        try {
+            exporter.export(response, "memos", gzip, Memo::writeJson, EXPORT_SQL);
+            return null;
+
+        } catch (Exception e) {
+            log.error("메모 내보내기 오류: {}", e.getMessage(), e);
+            if (response.isCommitted()) {
+                return null;
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                        "success", false,
+                        "message", "메모 내보내기 실패: " + e.getMessage()
+                    ));
+        }
+    }
+
     // ==================== 특정 메모 조회 ====================
+    @Bulkhead("detail")
     @GetMapping("/{fid}")
-    public ResponseEntity<Map<String, Object>> getMemoById(@PathVariable("fid") int fid) {
+    public ResponseEntity<Map<String, Object>> getMemoById(@PathVariable("fid") int fid, WebRequest webRequest) {
         log.info("메모 상세 조회 - FID: {}", fid);
+
+        if (webRequest.checkNotModified(versions.memo(fid))) {
+            return null;
+        }
         
         try {
-            Map<String, Object> memo = jdbc.queryForMap(
-                "SELECT FID, FTITLE, FCONTENT, FCREATED_AT FROM MEMO WHERE FID = ?",
+            Memo memo = detailCache.memo(fid, () -> jdbc.queryForObject(
+                DETAIL_SQL,
+                Memo.MAPPER,
                 fid
-            );
+            ));
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -80,7 +180,12 @@ public class MemoController {
     }
 
     // ==================== 메모 저장/수정 ====================
+    // 새 메모는 배치 INSERT 워커가 자기 트랜잭션(커넥션)으로 넣으므로, 기다리는 동안 요청이 커넥션을 잡고 있지 않도록
+    // 트랜잭션 없이 실행 (잡고 있으면 동시 요청이 풀 크기를 넘을 때 워커가 커넥션을 얻지 못해 멈춘다).
+    // 수정은 UPDATE 한 문장이라 자동 커밋으로 충분하다
+    @Bulkhead("write")
     @PostMapping
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseEntity<Map<String, Object>> saveMemo(@RequestBody Map<String, Object> param) {
         log.info("메모 저장/수정 요청: {}", param);
 
@@ -121,19 +226,17 @@ public class MemoController {
         if (fid == null || fid <= 0) {
             // INSERT - 새로운 메모 추가
             log.info("새 메모 추가");
-            jdbc.update(
-                "INSERT INTO MEMO (FTITLE, FCONTENT) VALUES (?, ?)",
+            // 생성된 FID 를 같이 받는다
+            Memo created = postInserter.memo(
                 ftitle != null ? ftitle : "",
                 fcontent != null ? fcontent : ""
             );
-
-            // 마지막 삽입 ID 가져오기
-            Integer lastId = jdbc.queryForObject(
-                "SELECT IDENT_CURRENT('MEMO')", Integer.class
-            );
+            int lastId = created.fid();
 
             log.info("새 메모 ID: {}", lastId);
 
+            events.publishEvent(MemoChangedEvent.created(created));
+
             result.put("fid", lastId);
             result.put("success", true);
             result.put("message", "메모가 추가되었습니다.");
@@ -142,15 +245,25 @@ public class MemoController {
         } else {
             // UPDATE - 기존 메모 수정
             log.info("메모 수정 - ID: {}", fid);
-            int affectedRows = jdbc.update(
-                "UPDATE MEMO SET FTITLE = ?, FCONTENT = ? WHERE FID = ?",
+            // 통계 갱신을 위해 수정 전 행을 같이 받는다
+            List<Memo> previous = jdbc.query(
+                UPDATE_SQL,
+                Memo.MAPPER,
                 ftitle != null ? ftitle : "",
                 fcontent != null ? fcontent : "",
                 fid
             );
+            int affectedRows = previous.size();
 
             log.info("수정된 행 수: {}", affectedRows);
 
+            if (affectedRows > 0) {
+                events.publishEvent(MemoChangedEvent.updated(fid,
+                    ftitle != null ? ftitle : "",
+                    fcontent != null ? fcontent : "",
+                    previous.get(0)));
+            }
+
             result.put("fid", fid);
             result.put("success", affectedRows > 0);
             result.put("action", "update");
@@ -171,15 +284,22 @@ public class MemoController {
     }
 
     // ==================== 메모 삭제 ====================
+    @Bulkhead("write")
     @DeleteMapping("/{fid}")
     public ResponseEntity<Map<String, Object>> deleteMemo(@PathVariable("fid") int fid) {
         log.info("메모 삭제 요청 - FID: {}", fid);
         
         try {
-            int affectedRows = jdbc.update(
-                "DELETE FROM MEMO WHERE FID = ?", 
+            List<Memo> deleted = jdbc.query(
+                DELETE_SQL,
+                Memo.MAPPER,
                 fid
             );
+            int affectedRows = deleted.size();
+
+            if (affectedRows > 0) {
+                events.publishEvent(MemoChangedEvent.deleted(deleted.get(0)));
+            }
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", affectedRows > 0);
@@ -199,31 +319,81 @@ public class MemoController {
         }
     }
 
+    // ==================== 메모 대량 저장/삭제 ====================
+    // 본문: [{"ftitle": ..., "fcontent": ...}, ...]
+    // chunk 마다 따로 커밋하므로 요청 전체를 트랜잭션 하나로 묶지 않는다
+    @Bulkhead("bulk")
+    @PostMapping("/bulk/write")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<Map<String, Object>> bulkSave(HttpServletRequest request) {
+        log.info("메모 대량 저장 요청");
+
+        try {
+            BulkWriter.Report report = bulkWriter.memos(request.getInputStream());
+            return ResponseEntity.status(report.error() != null ? HttpStatus.BAD_REQUEST : HttpStatus.OK)
+                    .body(report.toBody());
+
+        } catch (Exception e) {
+            log.error("메모 대량 저장 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                        "success", false,
+                        "message", "메모 대량 저장 실패: " + e.getMessage()
+                    ));
+        }
+    }
+
+    // 본문: [fid, fid, ...]
+    @Bulkhead("bulk")
+    @PostMapping("/bulk/delete")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<Map<String, Object>> bulkDelete(HttpServletRequest request) {
+        log.info("메모 대량 삭제 요청");
+
+        try {
+            BulkWriter.Report report = bulkWriter.deleteMemos(request.getInputStream());
+            return ResponseEntity.status(report.error() != null ? HttpStatus.BAD_REQUEST : HttpStatus.OK)
+                    .body(report.toBody());
+
+        } catch (Exception e) {
+            log.error("메모 대량 삭제 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                        "success", false,
+                        "message", "메모 대량 삭제 실패: " + e.getMessage()
+                    ));
+        }
+    }
+
     // ==================== 메모 검색 ====================
+    @Bulkhead(value = "search", coalesced = true)
     @GetMapping("/search")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ResponseEntity<Map<String, Object>> searchMemos(
-            @RequestParam("keyword") String keyword) {
+            @RequestParam("keyword") String keyword,
+            WebRequest webRequest,
+            HttpServletResponse response) {
         
         log.info("메모 검색 요청 - 키워드: {}", keyword);
-        
+
+        String version = versions.memoList();
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+        return coalesce("search", "memo.search", version, () -> search(keyword, response), keyword);
+    }
+
+    private ResponseEntity<Map<String, Object>> search(String keyword, HttpServletResponse response) {
         try {
-            String searchKeyword = "%" + keyword + "%";
-            
-            List<Map<String, Object>> result = jdbc.queryForList(
-                "SELECT FID, FTITLE, FCONTENT, FCREATED_AT " +
-                "FROM MEMO " +
-                "WHERE FTITLE LIKE ? OR FCONTENT LIKE ? " +
-                "ORDER BY FID DESC",
-                searchKeyword, searchKeyword
-            );
+            // 역색인이 준비되어 있으면 일치하는 FID 만 조회
+            int[] matches = searchIndex.match(keyword);
+            if (matches != null) {
+                return ResponseEntity.ok(listResponse(findByFids(matches), "검색 완료"));
+            }
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("content", result);
-            response.put("totalElements", result.size());
-            response.put("message", "검색 완료");
-            
-            return ResponseEntity.ok(response);
+            String searchKeyword = SqlLike.contains(keyword);
+
+            return memoList(response, false, "검색 완료", SEARCH_SQL, searchKeyword, searchKeyword);
             
         } catch (Exception e) {
             log.error("메모 검색 오류: {}", e.getMessage(), e);
@@ -235,43 +405,84 @@ public class MemoController {
         }
     }
 
+    // 같은 메모 버전에 같은 파라미터로 동시에 들어온 조회는 DB 조회 하나를 같이 기다린다
+    // 스트리밍 모드는 각 요청의 응답에 직접 쓰므로 합치지 않는다
+    // 구획(bulkhead) 자리는 DB 를 읽는 leader 만 잡는다. 결과를 기다리는 요청은 자리를 차지하지 않는다
+    private ResponseEntity<Map<String, Object>> coalesce(String bulkhead, String name, String version,
+                                                         Supplier<ResponseEntity<Map<String, Object>>> loader,
+                                                         Object... params) {
+        try {
+            if (streaming) {
+                return bulkheads.execute(bulkhead, loader);
+            }
+            List<Object> key = new ArrayList<>(params.length + 1);
+            key.add(version);
+            key.addAll(Arrays.asList(params));
+            return singleFlight.execute(name, key, () -> bulkheads.execute(bulkhead, loader));
+        } catch (Bulkheads.RejectedException e) {
+            return Bulkheads.rejected();
+        }
+    }
+
+    // 메모 목록 응답. 스트리밍 모드면 응답에 바로 쓰고 null 을 반환한다
+    private ResponseEntity<Map<String, Object>> memoList(HttpServletResponse response, boolean stream, String message,
+                                                         String sql, Object... args) throws IOException {
+        if (!streaming && !stream) {
+            List<Memo> result = jdbc.query(sql, Memo.MAPPER, args);
+            log.info("조회된 메모 개수: {}", result.size());
+            return ResponseEntity.ok(listResponse(result, message));
+        }
+        streamer.write(response, g -> {
+            g.writeBooleanField("success", true);
+            JsonRowStreamer.Rows rows = streamer.writeRows(g, "content", 0, Memo::writeJson, sql, args);
+            g.writeNumberField("totalElements", rows.count());
+            g.writeStringField("message", message);
+        });
+        return null;
+    }
+
+    private Map<String, Object> listResponse(List<Memo> result, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("content", result);
+        response.put("totalElements", result.size());
+        response.put("message", message);
+        return response;
+    }
+
+    // 색인 결과 FID 로 조회 (최신순, IN 절 파라미터 한도 때문에 나눠서 조회)
+    private List<Memo> findByFids(int[] ascendingFids) {
+        List<Memo> result = new ArrayList<>(ascendingFids.length);
+        for (int end = ascendingFids.length; end > 0; end -= FID_CHUNK) {
+            int start = Math.max(0, end - FID_CHUNK);
+            Object[] args = new Object[end - start];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = ascendingFids[start + i];
+            }
+            // IN 목록 길이를 정해진 크기로 맞춰서 일치 건수마다 다른 문장이 생기지 않게 한다
+            int inSize = SqlStatements.inListSize(args.length);
+            String sql = SqlStatements.named("memo.by-fids",
+                "SELECT " + Memo.COLUMNS + " FROM MEMO WHERE FID IN (" + SqlStatements.inList(inSize) + ") ORDER BY FID DESC");
+            result.addAll(jdbc.query(sql, Memo.MAPPER, SqlStatements.padInList(args, inSize)));
+        }
+        return result;
+    }
+
     // ==================== 메모 통계 ====================
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getMemoStats() {
         log.info("메모 통계 요청");
         
         try {
-            // 총 메모 수
-            Integer totalCount = jdbc.queryForObject(
-                "SELECT COUNT(*) FROM MEMO", 
-                Integer.class
-            );
-            
-            // 제목이 있는 메모 수
-            Integer titledCount = jdbc.queryForObject(
-                "SELECT COUNT(*) FROM MEMO WHERE FTITLE IS NOT NULL AND FTITLE != ''", 
-                Integer.class
-            );
-            
-            // 내용이 있는 메모 수
-            Integer contentCount = jdbc.queryForObject(
-                "SELECT COUNT(*) FROM MEMO WHERE FCONTENT IS NOT NULL AND FCONTENT != ''", 
-                Integer.class
-            );
-            
-            // 최근 생성된 메모
-            List<Map<String, Object>> recentMemos = jdbc.queryForList(
-                "SELECT TOP 5 FID, FTITLE, FCREATED_AT " +
-                "FROM MEMO " +
-                "ORDER BY FCREATED_AT DESC"
-            );
+            // DB 조회 없이 메모리 스냅샷에서 응답
+            MemoStats.Snapshot stats = memoStats.snapshot();
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("totalMemos", totalCount != null ? totalCount : 0);
-            response.put("titledMemos", titledCount != null ? titledCount : 0);
-            response.put("contentMemos", contentCount != null ? contentCount : 0);
-            response.put("recentMemos", recentMemos);
+            response.put("totalMemos", stats.totalMemos());
+            response.put("titledMemos", stats.titledMemos());
+            response.put("contentMemos", stats.contentMemos());
+            response.put("recentMemos", stats.recentMemos());
             response.put("message", "통계 조회 성공");
             
             return ResponseEntity.ok(response);
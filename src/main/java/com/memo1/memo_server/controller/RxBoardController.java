@@ -0,0 +1,323 @@
+package com.memo1.memo_server.controller;
+
+import com.memo1.memo_server.dto.Board;
+import com.memo1.memo_server.search.SearchHits;
+import com.memo1.memo_server.service.BoardPostCounter;
+import com.memo1.memo_server.service.BoardSearchIndex;
+import com.memo1.memo_server.service.ChangeVersions;
+import com.memo1.memo_server.service.DetailCache;
+import com.memo1.memo_server.support.ReactiveDb;
+import com.memo1.memo_server.support.SeqCursor;
+import com.memo1.memo_server.support.SqlLike;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+// /api/board 조회 API 의 논블로킹 버전 (rx.enabled=true 일 때만 등록)
+// DB 조회는 R2DBC 로 하고 핸들러는 Mono/Flux 를 반환하므로 조회하는 동안 요청 스레드를 잡고 있지 않는다.
+// Accept: application/x-ndjson 이면 목록/검색 결과를 한 행씩 흘려보낸다 (클라이언트가 읽는 만큼만 DB 에서 가져옴).
+// 작성/수정/삭제는 기존 /api/board 를 그대로 쓴다.
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/rx/api/board")
+@ConditionalOnProperty(name = "rx.enabled", havingValue = "true")
+public class RxBoardController {
+
+    private static final String SELECT = "SELECT " + Board.COLUMNS + " FROM TBOARD ";
+    private static final String LIKE = "AND (BR_TITLE LIKE :keyword ESCAPE '\\' OR BR_CONTENT LIKE :keyword ESCAPE '\\') ";
+    private static final String NEWEST_FIRST = "ORDER BY BR_SEQ DESC OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY";
+
+    // COUNT(*) OVER() 결과와 같이 받은 행
+    private record Counted(Board board, int total) {
+    }
+
+    private final ReactiveDb db;
+    private final BoardPostCounter postCounter;
+    private final BoardSearchIndex searchIndex;
+    private final DetailCache detailCache;
+    private final ChangeVersions versions;
+
+    // ==================== 게시글 목록 조회 ====================
+    // afterSeq 또는 cursor 가 있으면 키셋(seek) 방식, 없으면 OFFSET 방식 (/api/board/posts 와 같은 응답)
+    @GetMapping("/posts")
+    public Mono<ResponseEntity<Map<String, Object>>> getBoardPosts(
+            @RequestParam("brCd") String brCd,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "afterSeq", required = false) Integer afterSeq,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            WebRequest webRequest) {
+
+        log.info("[rx] 게시글 목록 조회 - BR_CD: {}, page: {}, size: {}, cursor: {}", brCd, page, size,
+                afterSeq != null ? afterSeq : cursor);
+
+        if (webRequest.checkNotModified(versions.boardList(brCd))) {
+            return null;
+        }
+
+        Integer lastSeq;
+        try {
+            lastSeq = SeqCursor.resolve(afterSeq, cursor);
+        } catch (SeqCursor.InvalidCursorException e) {
+            return Mono.just(invalidCursor(e));
+        }
+
+        if (lastSeq != null) {
+            return posts(brCd, lastSeq, 0, size + 1).collectList()
+                    .map(rows -> ResponseEntity.ok(keysetResponse(rows, size)))
+                    .onErrorResume(e -> failure("게시글 목록 조회", e));
+        }
+
+        int current = Math.max(page, 1);
+        return Mono.zip(posts(brCd, null, (current - 1) * size, size).collectList(), boardPostCount(brCd))
+                .map(result -> ResponseEntity.ok(offsetResponse(result.getT1(), current, size, result.getT2())))
+                .onErrorResume(e -> failure("게시글 목록 조회", e));
+    }
+
+    // 같은 목록을 NDJSON 으로 한 행씩
+    @GetMapping(value = "/posts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Board> streamBoardPosts(
+            @RequestParam("brCd") String brCd,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "afterSeq", required = false) Integer afterSeq,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+
+        log.info("[rx] 게시글 목록 스트리밍 - BR_CD: {}, page: {}, size: {}", brCd, page, size);
+
+        Integer lastSeq = resolveCursor(afterSeq, cursor);
+        return posts(brCd, lastSeq, lastSeq != null ? 0 : (Math.max(page, 1) - 1) * size, size);
+    }
+
+    private Flux<Board> posts(String brCd, Integer lastSeq, int offset, int limit) {
+        String sql = SELECT + "WHERE BR_CD = :brCd " + (lastSeq != null ? "AND BR_SEQ < :lastSeq " : "") + NEWEST_FIRST;
+        Map<String, Object> params = new HashMap<>(Map.of("brCd", brCd, "offset", offset, "limit", limit));
+        if (lastSeq != null) {
+            params.put("lastSeq", lastSeq);
+        }
+        return query(sql, params).map(Board::read).all();
+    }
+
+    // ==================== 게시글 상세 조회 ====================
+    // 상세 캐시를 /api/board/detail 과 같이 쓴다
+    @GetMapping("/detail/{seq}")
+    public Mono<ResponseEntity<?>> getBoardDetail(@PathVariable("seq") int seq, WebRequest webRequest) {
+        log.info("[rx] 게시글 상세 조회 - SEQ: {}", seq);
+        if (webRequest.checkNotModified(versions.boardPost(seq))) {
+            return null;
+        }
+        // 캐시의 future 는 다른 요청과 공유하므로 이 요청이 끊겨도 취소하지 않는다
+        return Mono.fromFuture(() -> detailCache.boardAsync(seq, () -> query(SELECT + "WHERE BR_SEQ = :seq", Map.of("seq", seq))
+                        .map(Board::read).one().toFuture()), true)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .switchIfEmpty(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("message", "게시글을 찾을 수 없습니다."))))
+                .onErrorResume(e -> {
+                    log.warn("[rx] 게시글 상세 조회 오류: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(Map.of("message", "게시글을 찾을 수 없습니다.")));
+                });
+    }
+
+    // ==================== 게시글 검색 ====================
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Map<String, Object>>> searchBoard(
+            @RequestParam("brCd") String brCd,
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "afterSeq", required = false) Integer afterSeq,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            WebRequest webRequest) {
+
+        log.info("[rx] 게시글 검색 - BR_CD: {}, 키워드: {}, page: {}, size: {}", brCd, keyword, page, size);
+
+        if (webRequest.checkNotModified(versions.boardList(brCd))) {
+            return null;
+        }
+
+        Integer lastSeq;
+        try {
+            lastSeq = SeqCursor.resolve(afterSeq, cursor);
+        } catch (SeqCursor.InvalidCursorException e) {
+            return Mono.just(invalidCursor(e));
+        }
+        int current = Math.max(page, 1);
+
+        // 역색인이 준비되어 있으면 메모리에서 일치 목록/건수를 구하고 해당 페이지만 조회
+        int[] matches = searchIndex.match(brCd, keyword);
+        if (matches != null) {
+            if (lastSeq != null) {
+                return findBySeqs(SearchHits.before(matches, lastSeq, size + 1)).collectList()
+                        .map(rows -> ResponseEntity.ok(keysetResponse(rows, size)))
+                        .onErrorResume(e -> failure("게시글 검색", e));
+            }
+            return findBySeqs(SearchHits.page(matches, (current - 1) * size, size)).collectList()
+                    .map(posts -> ResponseEntity.ok(offsetResponse(posts, current, size, matches.length)))
+                    .onErrorResume(e -> failure("게시글 검색", e));
+        }
+
+        String like = SqlLike.contains(keyword);
+        if (lastSeq != null) {
+            return search(brCd, like, lastSeq, 0, size + 1).collectList()
+                    .map(rows -> ResponseEntity.ok(keysetResponse(rows, size)))
+                    .onErrorResume(e -> failure("게시글 검색", e));
+        }
+
+        // 검색 결과와 총 건수를 한 번에 조회. 마지막 페이지를 넘어간 요청만 COUNT 를 따로 실행
+        String sql = "SELECT " + Board.COLUMNS + ", COUNT(*) OVER() AS TOTAL_COUNT FROM TBOARD WHERE BR_CD = :brCd " + LIKE + NEWEST_FIRST;
+        return query(sql, Map.of("brCd", brCd, "keyword", like, "offset", (current - 1) * size, "limit", size))
+                .map(row -> new Counted(Board.read(row), count(row.get("TOTAL_COUNT"))))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    List<Board> posts = rows.stream().map(Counted::board).toList();
+                    Mono<Integer> total = !rows.isEmpty() ? Mono.just(rows.get(0).total())
+                            : current == 1 ? Mono.just(0)
+                            : query("SELECT COUNT(*) FROM TBOARD WHERE BR_CD = :brCd " + LIKE, Map.of("brCd", brCd, "keyword", like))
+                                    .map(row -> count(row.get(0))).one();
+                    return total.map(totalCount -> ResponseEntity.ok(offsetResponse(posts, current, size, totalCount)));
+                })
+                .onErrorResume(e -> failure("게시글 검색", e));
+    }
+
+    // 같은 검색 결과를 NDJSON 으로 한 행씩 (총 건수 없음)
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Board> streamSearchBoard(
+            @RequestParam("brCd") String brCd,
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "afterSeq", required = false) Integer afterSeq,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+
+        log.info("[rx] 게시글 검색 스트리밍 - BR_CD: {}, 키워드: {}", brCd, keyword);
+
+        Integer lastSeq = resolveCursor(afterSeq, cursor);
+        int offset = lastSeq != null ? 0 : (Math.max(page, 1) - 1) * size;
+        int[] matches = searchIndex.match(brCd, keyword);
+        if (matches != null) {
+            return findBySeqs(lastSeq != null ? SearchHits.before(matches, lastSeq, size) : SearchHits.page(matches, offset, size));
+        }
+        return search(brCd, SqlLike.contains(keyword), lastSeq, offset, size);
+    }
+
+    private Flux<Board> search(String brCd, String like, Integer lastSeq, int offset, int limit) {
+        String sql = SELECT + "WHERE BR_CD = :brCd " + LIKE + (lastSeq != null ? "AND BR_SEQ < :lastSeq " : "") + NEWEST_FIRST;
+        Map<String, Object> params = new HashMap<>(Map.of("brCd", brCd, "keyword", like, "offset", offset, "limit", limit));
+        if (lastSeq != null) {
+            params.put("lastSeq", lastSeq);
+        }
+        return query(sql, params).map(Board::read).all();
+    }
+
+    // 색인 검색 결과 페이지의 BR_SEQ 들로 본문 조회 (최신순, 한 페이지 분량이라 IN 절 하나로 충분)
+    private Flux<Board> findBySeqs(int[] seqs) {
+        if (seqs.length == 0) {
+            return Flux.empty();
+        }
+        return query(SELECT + "WHERE BR_SEQ IN (:seqs) ORDER BY BR_SEQ DESC",
+                Map.of("seqs", Arrays.stream(seqs).boxed().toList()))
+                .map(Board::read).all();
+    }
+
+    // ==================== 공통 ====================
+    private DatabaseClient.GenericExecuteSpec query(String sql, Map<String, Object> params) {
+        DatabaseClient.GenericExecuteSpec spec = db.client().sql(sql);
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    // COUNT(*) 는 드라이버에 따라 Integer 또는 Long 으로 온다
+    private static int count(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    private Map<String, Object> offsetResponse(List<Board> posts, int page, int size, int totalCount) {
+        int totalPages = (int) Math.ceil((double) totalCount / size);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("content", posts);
+        response.put("totalPages", totalPages);
+        response.put("currentPage", page);
+        response.put("totalElements", totalCount);
+        response.put("size", size);
+        response.put("nextCursor", page < totalPages && !posts.isEmpty() ? SeqCursor.encode(posts.get(posts.size() - 1).brSeq()) : null);
+        return response;
+    }
+
+    // size + 1 개를 조회해서 다음 페이지 존재 여부를 판단
+    private Map<String, Object> keysetResponse(List<Board> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<Board> posts = hasNext ? rows.subList(0, size) : rows;
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("content", posts);
+        response.put("size", size);
+        response.put("hasNext", hasNext);
+        response.put("nextCursor", hasNext ? SeqCursor.encode(posts.get(posts.size() - 1).brSeq()) : null);
+        return response;
+    }
+
+    private static Integer resolveCursor(Integer afterSeq, String cursor) {
+        try {
+            return SeqCursor.resolve(afterSeq, cursor);
+        } catch (SeqCursor.InvalidCursorException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> invalidCursor(SeqCursor.InvalidCursorException e) {
+        log.warn("[rx] 잘못된 페이지 커서: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of(
+            "success", false,
+            "message", e.getMessage()
+        ));
+    }
+
+    private Mono<ResponseEntity<Map<String, Object>>> failure(String action, Throwable e) {
+        log.error("[rx] {} 오류: {}", action, e.getMessage());
+        return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of(
+                    "success", false,
+                    "message", action + " 실패: " + e.getMessage()
+                )));
+    }
+
+    // 카운터가 허용 지연 안이면 메모리 값, 아니면 R2DBC 로 COUNT 를 읽어 카운터에 반영한다 (요청 스레드에서 JDBC 를 쓰지 않음)
+    private Mono<Integer> boardPostCount(String brCd) {
+        return Mono.defer(() -> {
+            OptionalInt cached = postCounter.cached(brCd);
+            if (cached.isPresent()) {
+                return Mono.just(cached.getAsInt());
+            }
+            long deltaBefore = postCounter.deltaOf(brCd);
+            return query("SELECT COUNT(*) FROM TBOARD WHERE BR_CD = :brCd", Map.of("brCd", brCd))
+                    .map(row -> count(row.get(0))).one()
+                    .map(dbCount -> postCounter.loaded(brCd, dbCount, deltaBefore));
+        }).onErrorResume(e -> {
+            log.warn("[rx] 게시글 수 조회 오류: {}", e.getMessage());
+            return Mono.just(0);
+        });
+    }
+}
@@ -0,0 +1,158 @@
+package com.memo1.memo_server.controller;
+
+import com.memo1.memo_server.dto.Memo;
+import com.memo1.memo_server.service.ChangeVersions;
+import com.memo1.memo_server.service.DetailCache;
+import com.memo1.memo_server.service.MemoSearchIndex;
+import com.memo1.memo_server.support.ReactiveDb;
+import com.memo1.memo_server.support.SqlLike;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// /api/memos 조회 API 의 논블로킹 버전 (rx.enabled=true 일 때만 등록, 설명은 RxBoardController 참고)
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/rx/api/memos")
+@ConditionalOnProperty(name = "rx.enabled", havingValue = "true")
+public class RxMemoController {
+
+    private static final int FID_CHUNK = 1000;
+    private static final String SELECT = "SELECT " + Memo.COLUMNS + " FROM MEMO ";
+    private static final String LIKE = "WHERE FTITLE LIKE :keyword ESCAPE '\\' OR FCONTENT LIKE :keyword ESCAPE '\\' ";
+
+    private final ReactiveDb db;
+    private final MemoSearchIndex searchIndex;
+    private final DetailCache detailCache;
+    private final ChangeVersions versions;
+
+    // ==================== 모든 메모 조회 ====================
+    @GetMapping
+    public Mono<ResponseEntity<Map<String, Object>>> getAllMemos(WebRequest webRequest) {
+        log.info("[rx] 메모 전체 조회 요청");
+
+        if (webRequest.checkNotModified(versions.memoList())) {
+            return null;
+        }
+        return listResponse(all(), "메모 조회", "메모 조회 성공");
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Memo> streamAllMemos() {
+        log.info("[rx] 메모 전체 스트리밍");
+        return all();
+    }
+
+    private Flux<Memo> all() {
+        return db.client().sql(SELECT + "ORDER BY FID DESC").map(Memo::read).all();
+    }
+
+    // ==================== 특정 메모 조회 ====================
+    @GetMapping("/{fid}")
+    public Mono<ResponseEntity<Map<String, Object>>> getMemoById(@PathVariable("fid") int fid, WebRequest webRequest) {
+        log.info("[rx] 메모 상세 조회 - FID: {}", fid);
+
+        if (webRequest.checkNotModified(versions.memo(fid))) {
+            return null;
+        }
+        // 캐시의 future 는 다른 요청과 공유하므로 이 요청이 끊겨도 취소하지 않는다
+        return Mono.fromFuture(() -> detailCache.memoAsync(fid, () -> db.client().sql(SELECT + "WHERE FID = :fid")
+                        .bind("fid", fid).map(Memo::read).one().toFuture()), true)
+                .map(memo -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("content", memo);
+                    response.put("message", "메모 조회 성공");
+                    return ResponseEntity.ok(response);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> notFound(fid, null)))
+                .onErrorResume(e -> Mono.just(notFound(fid, e)));
+    }
+
+    private ResponseEntity<Map<String, Object>> notFound(int fid, Throwable e) {
+        log.warn("[rx] 메모를 찾을 수 없습니다. FID: {}, 오류: {}", fid, e != null ? e.getMessage() : null);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of(
+                    "success", false,
+                    "message", "메모를 찾을 수 없습니다."
+                ));
+    }
+
+    // ==================== 메모 검색 ====================
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Map<String, Object>>> searchMemos(@RequestParam("keyword") String keyword, WebRequest webRequest) {
+        log.info("[rx] 메모 검색 요청 - 키워드: {}", keyword);
+
+        if (webRequest.checkNotModified(versions.memoList())) {
+            return null;
+        }
+        return listResponse(search(keyword), "메모 검색", "검색 완료");
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Memo> streamSearchMemos(@RequestParam("keyword") String keyword) {
+        log.info("[rx] 메모 검색 스트리밍 - 키워드: {}", keyword);
+        return search(keyword);
+    }
+
+    // 역색인이 준비되어 있으면 일치하는 FID 만 조회
+    private Flux<Memo> search(String keyword) {
+        int[] matches = searchIndex.match(keyword);
+        if (matches != null) {
+            return findByFids(matches);
+        }
+        return db.client().sql(SELECT + LIKE + "ORDER BY FID DESC")
+                .bind("keyword", SqlLike.contains(keyword))
+                .map(Memo::read)
+                .all();
+    }
+
+    // 색인 결과 FID 로 조회 (최신순, IN 절 파라미터 한도 때문에 나눠서 차례로 조회)
+    private Flux<Memo> findByFids(int[] ascendingFids) {
+        return Flux.range(0, (ascendingFids.length + FID_CHUNK - 1) / FID_CHUNK)
+                .concatMap(i -> {
+                    int end = ascendingFids.length - i * FID_CHUNK;
+                    int start = Math.max(0, end - FID_CHUNK);
+                    List<Integer> fids = Arrays.stream(ascendingFids, start, end).boxed().toList();
+                    return db.client().sql(SELECT + "WHERE FID IN (:fids) ORDER BY FID DESC")
+                            .bind("fids", fids)
+                            .map(Memo::read)
+                            .all();
+                });
+    }
+
+    // ==================== 공통 ====================
+    private Mono<ResponseEntity<Map<String, Object>>> listResponse(Flux<Memo> memos, String action, String message) {
+        return memos.collectList()
+                .map(result -> {
+                    log.info("[rx] 조회된 메모 개수: {}", result.size());
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("content", result);
+                    response.put("totalElements", result.size());
+                    response.put("message", message);
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(e -> {
+                    log.error("[rx] {} 오류: {}", action, e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of(
+                                "success", false,
+                                "message", action + " 실패: " + e.getMessage()
+                            )));
+                });
+    }
+}
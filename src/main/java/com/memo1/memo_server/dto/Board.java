@@ -0,0 +1,63 @@
+package com.memo1.memo_server.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.memo1.memo_server.support.JsonDates;
+import io.r2dbc.spi.Readable;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// TBOARD 한 행. JSON 필드명은 기존 응답(br_*)과 동일하게 유지
+public record Board(
+        @JsonProperty("br_seq") int brSeq,
+        @JsonProperty("br_cd") String brCd,
+        @JsonProperty("br_title") String brTitle,
+        @JsonProperty("br_content") String brContent,
+        @JsonProperty("br_file") String brFile,
+        @JsonProperty("br_reg_id") String brRegId,
+        @JsonProperty("br_reg_dt") Timestamp brRegDt) {
+
+    // MAPPER / writeJson 은 이 컬럼 순서를 전제로 인덱스로 읽는다
+    public static final String COLUMNS = "BR_SEQ, BR_CD, BR_TITLE, BR_CONTENT, BR_FILE, BR_REG_ID, BR_REG_DT";
+
+    public static final RowMapper<Board> MAPPER = (rs, rowNum) -> new Board(
+            rs.getInt(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4),
+            rs.getString(5),
+            rs.getString(6),
+            rs.getTimestamp(7));
+
+    // 객체를 만들지 않고 현재 행을 바로 JSON 으로 쓴다
+    public static void writeJson(JsonGenerator g, ResultSet rs) throws IOException, SQLException {
+        g.writeStartObject();
+        g.writeNumberField("br_seq", rs.getInt(1));
+        g.writeStringField("br_cd", rs.getString(2));
+        g.writeStringField("br_title", rs.getString(3));
+        g.writeStringField("br_content", rs.getString(4));
+        g.writeStringField("br_file", rs.getString(5));
+        g.writeStringField("br_reg_id", rs.getString(6));
+        g.writeFieldName("br_reg_dt");
+        JsonDates.write(g, rs.getTimestamp(7));
+        g.writeEndObject();
+    }
+
+    // R2DBC 행 (/rx/api). 컬럼 순서는 COLUMNS 와 같다
+    public static Board read(Readable row) {
+        LocalDateTime regDt = row.get(6, LocalDateTime.class);
+        return new Board(
+                row.get(0, Integer.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, String.class),
+                row.get(4, String.class),
+                row.get(5, String.class),
+                regDt != null ? Timestamp.valueOf(regDt) : null);
+    }
+}
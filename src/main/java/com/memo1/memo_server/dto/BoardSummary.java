@@ -0,0 +1,46 @@
+package com.memo1.memo_server.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.memo1.memo_server.support.JsonDates;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+// 목록 화면용 TBOARD 요약 (view=summary). 본문 대신 앞부분 미리보기만 DB 에서 잘라서 가져온다
+public record BoardSummary(
+        @JsonProperty("br_seq") int brSeq,
+        @JsonProperty("br_cd") String brCd,
+        @JsonProperty("br_title") String brTitle,
+        @JsonProperty("br_preview") String brPreview,
+        @JsonProperty("br_reg_id") String brRegId,
+        @JsonProperty("br_reg_dt") Timestamp brRegDt) {
+
+    // MAPPER / writeJson 은 이 컬럼 순서를 전제로 인덱스로 읽는다. previewLength 는 설정값(정수)이므로 SQL 에 그대로 넣는다
+    public static String columns(int previewLength) {
+        return "BR_SEQ, BR_CD, BR_TITLE, LEFT(BR_CONTENT, " + Math.max(previewLength, 0) + ") AS BR_PREVIEW, BR_REG_ID, BR_REG_DT";
+    }
+
+    public static final RowMapper<BoardSummary> MAPPER = (rs, rowNum) -> new BoardSummary(
+            rs.getInt(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4),
+            rs.getString(5),
+            rs.getTimestamp(6));
+
+    public static void writeJson(JsonGenerator g, ResultSet rs) throws IOException, SQLException {
+        g.writeStartObject();
+        g.writeNumberField("br_seq", rs.getInt(1));
+        g.writeStringField("br_cd", rs.getString(2));
+        g.writeStringField("br_title", rs.getString(3));
+        g.writeStringField("br_preview", rs.getString(4));
+        g.writeStringField("br_reg_id", rs.getString(5));
+        g.writeFieldName("br_reg_dt");
+        JsonDates.write(g, rs.getTimestamp(6));
+        g.writeEndObject();
+    }
+}
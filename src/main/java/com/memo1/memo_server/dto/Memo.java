@@ -0,0 +1,51 @@
+package com.memo1.memo_server.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.memo1.memo_server.support.JsonDates;
+import io.r2dbc.spi.Readable;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// MEMO 한 행. JSON 필드명은 기존 queryForList 응답(컬럼명 대문자)과 동일하게 유지
+public record Memo(
+        @JsonProperty("FID") int fid,
+        @JsonProperty("FTITLE") String ftitle,
+        @JsonProperty("FCONTENT") String fcontent,
+        @JsonProperty("FCREATED_AT") Timestamp fcreatedAt) {
+
+    // MAPPER / writeJson 은 이 컬럼 순서를 전제로 인덱스로 읽는다
+    public static final String COLUMNS = "FID, FTITLE, FCONTENT, FCREATED_AT";
+
+    public static final RowMapper<Memo> MAPPER = (rs, rowNum) -> new Memo(
+            rs.getInt(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getTimestamp(4));
+
+    // 객체를 만들지 않고 현재 행을 바로 JSON 으로 쓴다
+    public static void writeJson(JsonGenerator g, ResultSet rs) throws IOException, SQLException {
+        g.writeStartObject();
+        g.writeNumberField("FID", rs.getInt(1));
+        g.writeStringField("FTITLE", rs.getString(2));
+        g.writeStringField("FCONTENT", rs.getString(3));
+        g.writeFieldName("FCREATED_AT");
+        JsonDates.write(g, rs.getTimestamp(4));
+        g.writeEndObject();
+    }
+
+    // R2DBC 행 (/rx/api). 컬럼 순서는 COLUMNS 와 같다
+    public static Memo read(Readable row) {
+        LocalDateTime createdAt = row.get(3, LocalDateTime.class);
+        return new Memo(
+                row.get(0, Integer.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                createdAt != null ? Timestamp.valueOf(createdAt) : null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.memo1.memo_server.event;
+
+// 게시글 작성/수정/삭제 후 발행되는 이벤트 (삭제 시 title/content 는 null)
+public record BoardChangedEvent(Type type, int seq, String brCd, String title, String content) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
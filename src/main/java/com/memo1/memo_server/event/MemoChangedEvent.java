@@ -0,0 +1,26 @@
+package com.memo1.memo_server.event;
+
+import com.memo1.memo_server.dto.Memo;
+
+import java.sql.Timestamp;
+
+// 메모 추가/수정/삭제 후 발행되는 이벤트 (삭제 시 title/content 는 null)
+// createdAt 은 추가 시 DB 가 채운 FCREATED_AT, previous 는 수정/삭제 전의 행 (추가 시 null)
+public record MemoChangedEvent(Type type, int fid, String title, String content, Timestamp createdAt, Memo previous) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static MemoChangedEvent created(Memo memo) {
+        return new MemoChangedEvent(Type.CREATED, memo.fid(), memo.ftitle(), memo.fcontent(), memo.fcreatedAt(), null);
+    }
+
+    public static MemoChangedEvent updated(int fid, String title, String content, Memo previous) {
+        return new MemoChangedEvent(Type.UPDATED, fid, title, content, previous.fcreatedAt(), previous);
+    }
+
+    public static MemoChangedEvent deleted(Memo previous) {
+        return new MemoChangedEvent(Type.DELETED, previous.fid(), null, null, previous.fcreatedAt(), previous);
+    }
+}
@@ -0,0 +1,71 @@
+package com.memo1.memo_server.search;
+
+import java.util.Arrays;
+
+// 문자 바이그램 토크나이저
+// 한글처럼 띄어쓰기로 단어를 나누기 어려운 텍스트도 LIKE '%kw%' 와 비슷하게 부분 일치시키기 위해
+// 인접한 두 글자(소문자화)를 하나의 int 토큰((c1 << 16) | c2)으로 만든다.
+public final class Bigrams {
+
+    static final char SEPARATOR = '\u0000';
+
+    private static final int[] EMPTY = new int[0];
+
+    private Bigrams() {
+    }
+
+    // 필드들을 소문자화해서 구분자(\u0000)로 이어 붙인다. 색인 문서의 원문 보관/검증용
+    public static String normalize(String... fields) {
+        StringBuilder sb = new StringBuilder();
+        for (int f = 0; f < fields.length; f++) {
+            if (f > 0) {
+                sb.append(SEPARATOR);
+            }
+            String field = fields[f];
+            if (field != null) {
+                for (int i = 0; i < field.length(); i++) {
+                    sb.append(Character.toLowerCase(field.charAt(i)));
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    // normalize 된 텍스트의 바이그램 (정렬, 중복 제거). 구분자를 포함하는 바이그램은 만들지 않음
+    public static int[] tokens(String normalized) {
+        int length = normalized.length();
+        if (length < 2) {
+            return EMPTY;
+        }
+        int[] tokens = new int[length - 1];
+        int n = 0;
+        char prev = normalized.charAt(0);
+        for (int i = 1; i < length; i++) {
+            char c = normalized.charAt(i);
+            if (prev != SEPARATOR && c != SEPARATOR) {
+                tokens[n++] = (prev << 16) | c;
+            }
+            prev = c;
+        }
+        return distinct(tokens, n);
+    }
+
+    // 검색어 토큰. 두 글자 미만이면 색인으로 답할 수 없으므로 null
+    public static int[] queryTokens(String keyword) {
+        if (keyword == null || keyword.length() < 2) {
+            return null;
+        }
+        return tokens(normalize(keyword));
+    }
+
+    private static int[] distinct(int[] tokens, int n) {
+        Arrays.sort(tokens, 0, n);
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (m == 0 || tokens[m - 1] != tokens[i]) {
+                tokens[m++] = tokens[i];
+            }
+        }
+        return Arrays.copyOf(tokens, m);
+    }
+}
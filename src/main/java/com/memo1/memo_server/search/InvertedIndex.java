@@ -0,0 +1,149 @@
+package com.memo1.memo_server.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 바이그램 역색인 (JVM 내장)
+// 검색어의 모든 바이그램을 포함하는 문서를 후보로 뽑고, 검색어가 세 글자 이상이면
+// 보관 중인 소문자화 원문으로 부분 문자열 일치를 다시 확인해 LIKE '%kw%' 와 같은 결과를 낸다.
+// 원문 보관 때문에 색인한 텍스트만큼 힙을 더 쓴다 (textBytes 로 추정치를 볼 수 있다).
+public class InvertedIndex {
+
+    private static final int[] EMPTY = new int[0];
+    // 원문 한 건당 HashMap 노드, Integer 키, String / 배열 헤더 추정치
+    private static final int TEXT_OVERHEAD = 88;
+
+    private final Map<Integer, Postings> postings = new HashMap<>();
+    private final Map<Integer, String> forward = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // forward 에 보관한 원문 글자 수 합계. lock 으로 보호
+    private long textChars;
+
+    // 문서 추가 또는 교체
+    public void put(int id, String... fields) {
+        String text = Bigrams.normalize(fields);
+        int[] tokens = Bigrams.tokens(text);
+        lock.writeLock().lock();
+        try {
+            String old = forward.put(id, text);
+            textChars += text.length();
+            if (old != null) {
+                textChars -= old.length();
+                unlink(id, Bigrams.tokens(old));
+            }
+            for (int token : tokens) {
+                postings.computeIfAbsent(token, k -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            String old = forward.remove(id);
+            if (old != null) {
+                textChars -= old.length();
+                unlink(id, Bigrams.tokens(old));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            forward.clear();
+            textChars = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return forward.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 보관 중인 원문의 추정 힙 크기 (글자당 2바이트로 계산, 라틴 문자만이면 실제로는 더 작다)
+    public long textBytes() {
+        lock.readLock().lock();
+        try {
+            return textChars * 2 + (long) forward.size() * TEXT_OVERHEAD;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 일치하는 문서 ID (오름차순). 색인으로 답할 수 없는 검색어면 null
+    public int[] match(String keyword) {
+        int[] tokens = Bigrams.queryTokens(keyword);
+        if (tokens == null) {
+            return null;
+        }
+        if (tokens.length == 0) {
+            return EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(tokens.length);
+            for (int token : tokens) {
+                Postings p = postings.get(token);
+                if (p == null || p.isEmpty()) {
+                    return EMPTY;
+                }
+                lists.add(p);
+            }
+            // 가장 짧은 목록부터 교집합
+            lists.sort(Comparator.comparingInt(Postings::size));
+            int[] result = lists.get(0).toArray();
+            int length = result.length;
+            for (int i = 1; i < lists.size() && length > 0; i++) {
+                length = lists.get(i).retainInto(result, length);
+            }
+            // 두 글자 검색어는 후보가 곧 정답
+            if (keyword.length() > 2) {
+                length = verify(result, length, Bigrams.normalize(keyword));
+            }
+            return length == result.length ? result : Arrays.copyOf(result, length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int verify(int[] candidates, int length, String needle) {
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            String text = forward.get(candidates[i]);
+            if (text != null && text.contains(needle)) {
+                candidates[n++] = candidates[i];
+            }
+        }
+        return n;
+    }
+
+    private void unlink(int id, int[] tokens) {
+        for (int token : tokens) {
+            Postings p = postings.get(token);
+            if (p != null) {
+                p.remove(id);
+                if (p.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+}
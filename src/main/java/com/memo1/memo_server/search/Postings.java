@@ -0,0 +1,74 @@
+package com.memo1.memo_server.search;
+
+import java.util.Arrays;
+
+// 정렬된 문서 ID 목록. 새 글은 항상 가장 큰 ID 로 들어오므로 대부분 끝에 추가된다.
+final class Postings {
+
+    private int[] ids = new int[4];
+    private int size;
+
+    void add(int id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    // sorted 와의 교집합을 sorted 앞부분에 덮어쓰고 결과 길이를 반환
+    int retainInto(int[] sorted, int length) {
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < length && j < size; ) {
+            int a = sorted[i];
+            int b = ids[j];
+            if (a == b) {
+                sorted[n++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return n;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
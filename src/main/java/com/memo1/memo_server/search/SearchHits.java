@@ -0,0 +1,39 @@
+package com.memo1.memo_server.search;
+
+import java.util.Arrays;
+
+// 오름차순 ID 배열에서 최신순(내림차순) 페이지를 잘라내는 도우미
+public final class SearchHits {
+
+    private SearchHits() {
+    }
+
+    // OFFSET 방식: 내림차순 기준 offset 부터 limit 개
+    public static int[] page(int[] ascending, int offset, int limit) {
+        int end = ascending.length - offset;
+        if (offset < 0 || limit <= 0 || end <= 0) {
+            return new int[0];
+        }
+        int start = Math.max(0, end - limit);
+        return descending(ascending, start, end);
+    }
+
+    // 키셋 방식: beforeId 보다 작은 ID 중 큰 것부터 limit 개
+    public static int[] before(int[] ascending, int beforeId, int limit) {
+        int pos = Arrays.binarySearch(ascending, beforeId);
+        int end = pos >= 0 ? pos : -pos - 1;
+        if (limit <= 0 || end <= 0) {
+            return new int[0];
+        }
+        int start = Math.max(0, end - limit);
+        return descending(ascending, start, end);
+    }
+
+    private static int[] descending(int[] ascending, int start, int end) {
+        int[] result = new int[end - start];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ascending[end - 1 - i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+package com.memo1.memo_server.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+// 첨부파일 저장소 (내용 주소 방식)
+// 업로드 내용을 임시 파일로 흘려 쓰면서 SHA-256 을 계산하고, <dir>/objects/<앞 2자리>/<해시> 로 옮긴다.
+// 같은 내용이 이미 있으면 임시 파일만 지우므로 같은 파일은 한 번만 저장된다 (삭제 시 참조 계산이 필요해 지우지 않음).
+// 파일 내용은 고정 크기 버퍼로만 지나가고 힙에 통째로 올리지 않는다.
+// BR_FILE 에는 다운로드 경로(/api/attachments/<해시>/<파일명>)를 넣는다.
+@Slf4j
+@Service
+public class AttachmentStore {
+
+    public static final String PATH_PREFIX = "/api/attachments/";
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    // deduplicated: 같은 내용이 이미 저장되어 있었음
+    public record Stored(String hash, long size, String name, boolean deduplicated) {
+
+        // BR_FILE 에 넣는 참조 (= 다운로드 경로)
+        public String reference() {
+            return PATH_PREFIX + hash + "/" + UriUtils.encodePathSegment(name, StandardCharsets.UTF_8);
+        }
+    }
+
+    private final Path objects;
+    private final Path tmp;
+    private final Counter stored;
+    private final Counter deduplicated;
+
+    public AttachmentStore(MeterRegistry registry,
+                           @Value("${attachment.dir:./attachments}") Path dir) throws IOException {
+        this.objects = Files.createDirectories(dir.resolve("objects")).toAbsolutePath();
+        this.tmp = Files.createDirectories(dir.resolve("tmp")).toAbsolutePath();
+        this.stored = Counter.builder("attachment.uploads")
+                .description("첨부파일 업로드 수")
+                .tag("outcome", "stored")
+                .register(registry);
+        this.deduplicated = Counter.builder("attachment.uploads")
+                .description("첨부파일 업로드 수")
+                .tag("outcome", "deduplicated")
+                .register(registry);
+        log.info("첨부파일 저장 위치: {}", objects);
+    }
+
+    public Stored store(InputStream content, String name) throws IOException {
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        Path temp = Files.createTempFile(tmp, "upload-", ".part");
+        try {
+            long size;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), sha256)) {
+                size = content.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            Path target = path(hash);
+            if (Files.exists(target)) {
+                deduplicated.increment();
+                return new Stored(hash, size, name, true);
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 내용이 동시에 올라온 경우
+                deduplicated.increment();
+                return new Stored(hash, size, name, true);
+            }
+            stored.increment();
+            return new Stored(hash, size, name, false);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 저장된 파일 경로. 해시 형식이 아니거나 없으면 null
+    public Path find(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return null;
+        }
+        Path path = path(hash);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    // BR_FILE 값이 첨부파일 참조인데 저장소에 없으면 false (참조가 아닌 값은 그대로 허용)
+    public boolean isValidReference(String brFile) {
+        if (brFile == null || !brFile.startsWith(PATH_PREFIX)) {
+            return true;
+        }
+        String rest = brFile.substring(PATH_PREFIX.length());
+        int slash = rest.indexOf('/');
+        return find(slash > 0 ? rest.substring(0, slash) : rest) != null;
+    }
+
+    private Path path(String hash) {
+        return objects.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+}
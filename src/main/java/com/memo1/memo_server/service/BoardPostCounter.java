@@ -0,0 +1,230 @@
+package com.memo1.memo_server.service;
+
+import com.memo1.memo_server.event.BoardChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// BR_CD 별 게시글 수 카운터
+// 시작 시 한 번 GROUP BY 로 채우고, 작성/삭제 이벤트로 증감, 주기적으로 DB 와 맞춘다.
+// 카운터는 GROUP BY 결과에 있거나 BoardRegistry 에 등록된 게시판만 둔다.
+// 그 밖의 코드(요청으로 들어온 임의의 brCd)는 DB COUNT 를 그대로 돌려주고 저장하지 않는다.
+@Slf4j
+@Service
+public class BoardPostCounter {
+
+    private static final String COUNT_ALL_SQL = "SELECT BR_CD, COUNT(*) AS CNT FROM TBOARD GROUP BY BR_CD";
+    private static final String COUNT_ONE_SQL = "SELECT COUNT(*) FROM TBOARD WHERE BR_CD = ?";
+
+    private final JdbcTemplate jdbc;
+    private final ChangeVersions versions;
+    // BoardRegistry 가 이 빈을 쓰므로 지연 조회
+    private final ObjectProvider<BoardRegistry> boardRegistry;
+    private final long maxStalenessNanos;
+    private final ConcurrentHashMap<String, Entry> counts = new ConcurrentHashMap<>();
+
+    private final Timer reconcileTimer;
+    private final DistributionSummary driftSummary;
+    private final Counter driftTotal;
+    private final Counter staleLoads;
+    private final Counter missLoads;
+    private final AtomicInteger lastDrift = new AtomicInteger();
+
+    public BoardPostCounter(JdbcTemplate jdbc,
+                            ChangeVersions versions,
+                            ObjectProvider<BoardRegistry> boardRegistry,
+                            MeterRegistry registry,
+                            @Value("${board.count.max-staleness:5m}") Duration maxStaleness) {
+        this.jdbc = jdbc;
+        this.versions = versions;
+        this.boardRegistry = boardRegistry;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.reconcileTimer = Timer.builder("board.count.reconcile")
+                .description("게시글 수 DB 대사 소요 시간")
+                .register(registry);
+        this.driftSummary = DistributionSummary.builder("board.count.drift")
+                .description("대사 시 게시판별 카운터와 DB COUNT 의 차이 (절대값)")
+                .register(registry);
+        this.driftTotal = Counter.builder("board.count.corrected")
+                .description("대사로 보정된 게시글 수 누적")
+                .register(registry);
+        this.staleLoads = Counter.builder("board.count.stale.loads")
+                .description("허용 지연을 넘겨 DB 에서 다시 읽은 횟수")
+                .register(registry);
+        this.missLoads = Counter.builder("board.count.miss.loads")
+                .description("카운터가 없어 DB 에서 읽은 횟수")
+                .register(registry);
+        registry.gauge("board.count.drift.last", lastDrift);
+        registry.gaugeMapSize("board.count.boards", Tags.empty(), counts);
+    }
+
+    // ==================== 조회 ====================
+    public int get(String brCd) {
+        OptionalInt cached = cached(brCd);
+        return cached.isPresent() ? cached.getAsInt() : load(brCd);
+    }
+
+    // DB 를 읽지 않는 조회. 카운터가 없거나 허용 지연을 넘겼으면 비어 있다 (호출한 쪽이 DB 에서 읽고 loaded 로 반영)
+    public OptionalInt cached(String brCd) {
+        Entry entry = counts.get(brCd);
+        if (entry == null) {
+            missLoads.increment();
+            return OptionalInt.empty();
+        }
+        if (System.nanoTime() - entry.syncedAt > maxStalenessNanos) {
+            staleLoads.increment();
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of((int) entry.count.get());
+    }
+
+    private int load(String brCd) {
+        long deltaBefore = deltaOf(brCd);
+        Integer dbCount = jdbc.queryForObject(COUNT_ONE_SQL, Integer.class, brCd);
+        return loaded(brCd, dbCount != null ? dbCount : 0, deltaBefore);
+    }
+
+    // 호출한 쪽이 읽은 COUNT 를 카운터에 반영하고 현재 값을 돌려준다. deltaBefore 는 COUNT 조회 전에 deltaOf 로 받아 둔 값
+    // 알 수 없는 게시판은 저장하지 않고 dbCount 를 그대로 돌려준다
+    public int loaded(String brCd, int dbCount, long deltaBefore) {
+        if (!counts.containsKey(brCd) && !isRegistered(brCd)) {
+            return dbCount;
+        }
+        sync(brCd, dbCount, deltaBefore);
+        Entry entry = counts.get(brCd);
+        return entry != null ? (int) entry.count.get() : dbCount;
+    }
+
+    private boolean isRegistered(String brCd) {
+        BoardRegistry registry = boardRegistry.getIfAvailable();
+        return registry != null && registry.isRegistered(brCd);
+    }
+
+    // ==================== 증감 ====================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> adjust(event.brCd(), 1);
+            case DELETED -> adjust(event.brCd(), -1);
+            default -> {
+            }
+        }
+    }
+
+    private void adjust(String brCd, int delta) {
+        if (brCd == null) {
+            return;
+        }
+        // 아직 시드되지 않은 게시판은 다음 조회 때 DB 에서 읽는다
+        Entry entry = counts.get(brCd);
+        if (entry != null) {
+            synchronized (entry) {
+                entry.count.addAndGet(delta);
+                entry.delta.addAndGet(delta);
+            }
+        }
+    }
+
+    // ==================== 시드 / 대사 ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            reconcile();
+            log.info("게시판별 게시글 수 초기화 완료 - 게시판 수: {}", counts.size());
+        } catch (Exception e) {
+            log.warn("게시판별 게시글 수 초기화 실패, 조회 시 개별 로딩: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.count.reconcile-interval:PT1M}",
+               initialDelayString = "${board.count.reconcile-interval:PT1M}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("게시글 수 대사 실패: {}", e.getMessage());
+        }
+    }
+
+    void reconcile() {
+        reconcileTimer.record(() -> {
+            Map<String, Long> deltaBefore = new HashMap<>();
+            counts.forEach((brCd, entry) -> deltaBefore.put(brCd, entry.delta.get()));
+
+            Map<String, Integer> dbCounts = new HashMap<>();
+            jdbc.query(COUNT_ALL_SQL, rs -> {
+                dbCounts.put(rs.getString("BR_CD"), rs.getInt("CNT"));
+            });
+
+            int drift = 0;
+            for (Map.Entry<String, Integer> e : dbCounts.entrySet()) {
+                drift += sync(e.getKey(), e.getValue(), deltaBefore.getOrDefault(e.getKey(), 0L));
+            }
+            // DB 에서 사라진 게시판은 등록된 게시판이면 0 으로, 아니면 카운터를 버린다
+            for (String brCd : counts.keySet()) {
+                if (!dbCounts.containsKey(brCd)) {
+                    if (isRegistered(brCd)) {
+                        drift += sync(brCd, 0, deltaBefore.getOrDefault(brCd, 0L));
+                    } else {
+                        counts.remove(brCd);
+                        versions.bumpBoard(brCd);
+                    }
+                }
+            }
+
+            lastDrift.set(drift);
+            if (drift > 0) {
+                log.info("게시글 수 대사 - 보정량: {}", drift);
+            }
+        });
+    }
+
+    // DB 값으로 맞추되, 조회 시작 이후 반영된 증감은 유지한다. 보정량(절대값)을 반환
+    private int sync(String brCd, int dbCount, long deltaBefore) {
+        Entry entry = counts.computeIfAbsent(brCd, k -> new Entry());
+        synchronized (entry) {
+            long expected = dbCount + (entry.delta.get() - deltaBefore);
+            int drift = (int) Math.abs(entry.count.get() - expected);
+            entry.count.set(expected);
+            entry.syncedAt = System.nanoTime();
+            if (drift > 0) {
+                driftSummary.record(drift);
+                driftTotal.increment(drift);
+                // 앱을 거치지 않고 바뀐 게시판이므로 목록 ETag 도 바꾼다
+                versions.bumpBoard(brCd);
+            }
+            return drift;
+        }
+    }
+
+    public long deltaOf(String brCd) {
+        Entry entry = counts.get(brCd);
+        return entry != null ? entry.delta.get() : 0L;
+    }
+
+    private static final class Entry {
+        final AtomicLong count = new AtomicLong();
+        // 이벤트로 반영된 증감 누적 (대사 중 들어온 변경을 보존하기 위함)
+        final AtomicLong delta = new AtomicLong();
+        volatile long syncedAt = System.nanoTime();
+    }
+}
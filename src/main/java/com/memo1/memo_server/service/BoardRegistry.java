@@ -0,0 +1,111 @@
+package com.memo1.memo_server.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 게시판 코드 → 이름/설명 등록부
+// application.yml 의 board.registry.boards 를 기본값으로 하고, board.registry.table 이 지정되어 있으면
+// 그 테이블(BR_CD, BR_NM, BR_DESC)의 행으로 덮어쓴다. 테이블은 reload-interval 마다 다시 읽는다.
+// 다시 읽을 때는 새 불변 Map 을 만들어 통째로 바꾸므로 조회는 잠금 없이 항상 완성된 목록 하나만 본다.
+// 게시글 수는 BoardPostCounter 의 메모리 카운터에서 같이 읽는다 (요청마다 DB 조회 없음).
+@Slf4j
+@Service
+public class BoardRegistry {
+
+    public record Info(String brCd, String brNm, String description, int totalPosts) {
+    }
+
+    // application.yml 의 board.registry.boards.<BR_CD>
+    public record Definition(String name, String description) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final BoardPostCounter postCounter;
+    private final Map<String, Definition> configured;
+    private final String tableSql;
+    private volatile Map<String, Definition> boards;
+
+    public BoardRegistry(JdbcTemplate jdbc,
+                         BoardPostCounter postCounter,
+                         MeterRegistry registry,
+                         Environment env,
+                         @Value("${board.registry.table:}") String table) {
+        this.jdbc = jdbc;
+        this.postCounter = postCounter;
+        this.tableSql = table.isBlank() ? null : "SELECT BR_CD, BR_NM, BR_DESC FROM " + table;
+
+        this.configured = Map.copyOf(Binder.get(env)
+                .bind("board.registry.boards", Bindable.mapOf(String.class, Definition.class))
+                .orElse(Map.of()));
+        this.boards = configured;
+
+        Gauge.builder("board.registry.boards", this, r -> r.boards.size())
+                .description("등록된 게시판 수")
+                .register(registry);
+    }
+
+    // ==================== 조회 ====================
+    // 등록되지 않은 게시판은 코드로 이름을 만든다
+    public Info info(String brCd) {
+        Definition meta = boards.get(brCd);
+        int totalPosts = postCounter.get(brCd);
+        if (meta == null) {
+            return new Info(brCd, "게시판 " + brCd, brCd + " 게시판입니다.", totalPosts);
+        }
+        return new Info(brCd, meta.name(), meta.description(), totalPosts);
+    }
+
+    public boolean isRegistered(String brCd) {
+        return boards.containsKey(brCd);
+    }
+
+    // ==================== 적재 ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (tableSql != null) {
+            reload();
+        }
+        log.info("게시판 등록부 적재 완료 - 게시판 수: {}", boards.size());
+    }
+
+    @Scheduled(fixedDelayString = "${board.registry.reload-interval:PT1M}",
+               initialDelayString = "${board.registry.reload-interval:PT1M}")
+    public void scheduledReload() {
+        if (tableSql != null) {
+            reload();
+        }
+    }
+
+    // 실패하면 기존 목록을 그대로 쓴다
+    void reload() {
+        try {
+            Map<String, Definition> loaded = new HashMap<>(configured);
+            jdbc.query(tableSql, rs -> {
+                String brCd = rs.getString("BR_CD");
+                if (brCd != null) {
+                    loaded.put(brCd, new Definition(rs.getString("BR_NM"), rs.getString("BR_DESC")));
+                }
+            });
+            Map<String, Definition> next = Map.copyOf(loaded);
+            if (!next.equals(boards)) {
+                boards = next;
+                log.info("게시판 등록부 갱신 - 게시판 수: {}", next.size());
+            }
+        } catch (Exception e) {
+            log.warn("게시판 등록부 갱신 실패, 기존 목록 사용: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.memo1.memo_server.service;
+
+import com.memo1.memo_server.event.BoardChangedEvent;
+import com.memo1.memo_server.search.InvertedIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// TBOARD 의 BR_TITLE/BR_CONTENT 바이그램 역색인 (BR_CD 별로 분리)
+// search.engine=index 일 때만 시작 시 구축하며, 구축 전에는 isReady() 가 false 라 LIKE 로 처리된다.
+// 구축은 새 색인에 하고, 그동안 들어온 변경 이벤트는 모아 두었다가 스캔이 끝난 뒤 새 색인에 다시 적용하고 교체한다.
+// (스캔이 이미 읽은 행이 삭제/수정 이벤트보다 늦게 들어가도 다시 적용으로 바로잡힌다)
+// search.rebuild-interval 마다 같은 방식으로 다시 구축해 어긋난 내용을 정리한다.
+@Slf4j
+@Service
+public class BoardSearchIndex {
+
+    private final JdbcTemplate jdbc;
+    private final boolean enabled;
+    private volatile ConcurrentHashMap<String, InvertedIndex> boards = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    // 구축 중에 들어온 변경 (구축 중이 아니면 null). this 로 보호
+    private List<BoardChangedEvent> pending;
+
+    public BoardSearchIndex(JdbcTemplate jdbc,
+                            MeterRegistry registry,
+                            @Value("${search.engine:like}") String engine) {
+        this.jdbc = jdbc;
+        this.enabled = "index".equalsIgnoreCase(engine);
+        Gauge.builder("search.index.docs", this, BoardSearchIndex::size)
+                .tag("index", "board")
+                .register(registry);
+        Gauge.builder("search.index.text.bytes", this, BoardSearchIndex::textBytes)
+                .description("검색어 확인용으로 보관한 원문의 추정 힙 크기")
+                .tag("index", "board")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 일치하는 BR_SEQ (오름차순). 색인을 쓸 수 없으면 null
+    public int[] match(String brCd, String keyword) {
+        if (!ready) {
+            return null;
+        }
+        InvertedIndex index = boards.get(brCd);
+        if (index == null) {
+            return keyword != null && keyword.length() >= 2 ? new int[0] : null;
+        }
+        return index.match(keyword);
+    }
+
+    public int size() {
+        return boards.values().stream().mapToInt(InvertedIndex::size).sum();
+    }
+
+    public long textBytes() {
+        return boards.values().stream().mapToLong(InvertedIndex::textBytes).sum();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread builder = new Thread(this::rebuild, "board-index-build");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    @Scheduled(fixedDelayString = "${search.rebuild-interval:PT1H}",
+               initialDelayString = "${search.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    void rebuild() {
+        synchronized (this) {
+            if (pending != null) {
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        long start = System.currentTimeMillis();
+        ConcurrentHashMap<String, InvertedIndex> built = new ConcurrentHashMap<>();
+        try {
+            jdbc.query("SELECT BR_SEQ, BR_CD, BR_TITLE, BR_CONTENT FROM TBOARD", rs -> {
+                index(built, rs.getString(2)).put(rs.getInt(1), rs.getString(3), rs.getString(4));
+            });
+            synchronized (this) {
+                for (BoardChangedEvent event : pending) {
+                    apply(built, event);
+                }
+                boards = built;
+                ready = true;
+            }
+            log.info("게시글 검색 색인 구축 완료 - 문서 수: {}, 소요: {}ms", size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 구축 실패, {}: {}", ready ? "기존 색인을 계속 씁니다" : "LIKE 검색으로 처리합니다", e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (!enabled || event.brCd() == null) {
+            return;
+        }
+        synchronized (this) {
+            if (pending != null) {
+                pending.add(event);
+            }
+            apply(boards, event);
+        }
+    }
+
+    private static void apply(ConcurrentHashMap<String, InvertedIndex> boards, BoardChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> index(boards, event.brCd()).put(event.seq(), event.title(), event.content());
+            case DELETED -> {
+                InvertedIndex index = boards.get(event.brCd());
+                if (index != null) {
+                    index.remove(event.seq());
+                }
+            }
+        }
+    }
+
+    private static InvertedIndex index(ConcurrentHashMap<String, InvertedIndex> boards, String brCd) {
+        return boards.computeIfAbsent(brCd, k -> new InvertedIndex());
+    }
+}
@@ -0,0 +1,332 @@
+package com.memo1.memo_server.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.memo1.memo_server.dto.Memo;
+import com.memo1.memo_server.event.BoardChangedEvent;
+import com.memo1.memo_server.event.MemoChangedEvent;
+import com.memo1.memo_server.support.SqlStatements;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 게시글/메모 대량 작성·삭제
+// 요청 본문(JSON 배열)을 Jackson 스트리밍 파서로 한 항목씩 읽으며 chunk-size 개씩 모아 트랜잭션 하나로 반영한다.
+// 항목 검증(필수 값, 첨부파일 참조)은 단건 작성과 같고, 실패한 항목은 반영하지 않고 항목별 결과로 보고한다.
+// 본문 전체를 객체로 올리지 않으므로 항목 수와 관계없이 메모리는 chunk 하나 + 항목별 결과만큼만 쓴다.
+// INSERT 는 PostInserter 의 MERGE ... OUTPUT 으로 넣어 항목별 생성 ID 를 돌려주고,
+// 삭제는 IN 목록 DELETE ... OUTPUT 으로 실제 삭제된 행만 성공 처리한다.
+// chunk 가 실패하면 그 chunk 만 항목별 트랜잭션으로 다시 반영해 실패한 항목만 실패로 보고한다.
+// 변경 이벤트는 chunk 트랜잭션 안에서 발행되므로 커밋된 항목만 캐시/색인/카운터에 반영된다.
+@Slf4j
+@Service
+public class BulkWriter {
+
+    // IN 목록 파라미터 수 (SQL Server 한 문장 최대 2100개)
+    private static final int ID_CHUNK = 1000;
+
+    private static final TypeReference<Map<String, Object>> OBJECT = new TypeReference<>() {
+    };
+
+    // 항목별 결과. index 는 요청 배열에서의 위치, id 는 생성/삭제된 BR_SEQ 또는 FID
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ItemResult(int index, boolean success, Integer id, String message) {
+    }
+
+    // error 는 본문을 끝까지 읽지 못한 경우의 원인 (그 전까지 읽은 항목은 반영됨)
+    public record Report(int total, int succeeded, long elapsedMs, boolean truncated, String error,
+                         List<ItemResult> results) {
+
+        public long rowsPerSec() {
+            return elapsedMs > 0 ? succeeded * 1000L / elapsedMs : succeeded;
+        }
+
+        public Map<String, Object> toBody() {
+            Map<String, Object> body = new HashMap<>();
+            body.put("success", error == null && succeeded == total);
+            body.put("total", total);
+            body.put("succeeded", succeeded);
+            body.put("failed", total - succeeded);
+            body.put("elapsed_ms", elapsedMs);
+            body.put("rows_per_sec", rowsPerSec());
+            body.put("truncated", truncated);
+            body.put("results", results);
+            body.put("message", error != null ? error : total + "건 중 " + succeeded + "건 처리되었습니다.");
+            return body;
+        }
+    }
+
+    // 현재 토큰에서 항목 하나를 읽는다. 항목이 잘못되었으면 IllegalArgumentException
+    @FunctionalInterface
+    private interface ItemReader<T> {
+        T read(JsonParser p) throws IOException;
+    }
+
+    // 항목 순서대로 결과 ID 를 반환 (대상이 없으면 null)
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        List<Integer> write(List<T> items);
+    }
+
+    private record Pending<T>(int index, T item) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final PostInserter postInserter;
+    private final AttachmentStore attachmentStore;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate tx;
+    private final MeterRegistry registry;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public BulkWriter(JdbcTemplate jdbc,
+                      PostInserter postInserter,
+                      AttachmentStore attachmentStore,
+                      ObjectMapper objectMapper,
+                      ApplicationEventPublisher events,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry registry,
+                      @Value("${write.bulk.chunk-size:1000}") int chunkSize,
+                      @Value("${write.bulk.max-items:100000}") int maxItems) {
+        this.jdbc = jdbc;
+        this.postInserter = postInserter;
+        this.attachmentStore = attachmentStore;
+        this.objectMapper = objectMapper;
+        this.events = events;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.registry = registry;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxItems = maxItems;
+    }
+
+    // ==================== 게시글 ====================
+    // [{"br_cd": ..., "br_title": ..., "br_content": ..., "br_file": ..., "br_reg_id": ...}, ...]
+    public Report boards(InputStream body) {
+        return run("board", "insert", body, p -> {
+            Map<String, Object> param = readObject(p);
+            String brCd = text(param, "br_cd", null);
+            if (brCd == null || brCd.trim().isEmpty()) {
+                throw new IllegalArgumentException("게시판 코드(br_cd)는 필수입니다.");
+            }
+            String file = text(param, "br_file", "");
+            if (!attachmentStore.isValidReference(file)) {
+                throw new IllegalArgumentException("첨부파일을 찾을 수 없습니다. 먼저 /api/attachments 로 업로드하세요.");
+            }
+            return new PostInserter.BoardRow(brCd,
+                    text(param, "br_title", null),
+                    text(param, "br_content", null),
+                    file,
+                    text(param, "br_reg_id", "user"));
+        }, this::insertBoards);
+    }
+
+    // [seq, seq, ...]
+    public Report deleteBoards(InputStream body) {
+        return run("board", "delete", body, BulkWriter::readId, this::deleteBoardRows);
+    }
+
+    private List<Integer> insertBoards(List<PostInserter.BoardRow> rows) {
+        List<Integer> seqs = postInserter.boards(rows);
+        for (int i = 0; i < rows.size(); i++) {
+            PostInserter.BoardRow row = rows.get(i);
+            events.publishEvent(new BoardChangedEvent(BoardChangedEvent.Type.CREATED, seqs.get(i),
+                    row.brCd(), row.title(), row.content()));
+        }
+        return seqs;
+    }
+
+    private List<Integer> deleteBoardRows(List<Integer> seqs) {
+        Map<Integer, String> deleted = new HashMap<>();
+        for (int from = 0; from < seqs.size(); from += ID_CHUNK) {
+            List<Integer> chunk = seqs.subList(from, Math.min(from + ID_CHUNK, seqs.size()));
+            int inSize = SqlStatements.inListSize(chunk.size());
+            jdbc.query(SqlStatements.named("board.bulk-delete",
+                            "DELETE FROM TBOARD OUTPUT DELETED.BR_SEQ, DELETED.BR_CD WHERE BR_SEQ IN (" + SqlStatements.inList(inSize) + ")"),
+                    (RowCallbackHandler) rs -> deleted.put(rs.getInt(1), rs.getString(2)),
+                    SqlStatements.padInList(chunk.toArray(), inSize));
+        }
+        deleted.forEach((seq, brCd) ->
+                events.publishEvent(new BoardChangedEvent(BoardChangedEvent.Type.DELETED, seq, brCd, null, null)));
+        return seqs.stream().map(seq -> deleted.containsKey(seq) ? seq : null).toList();
+    }
+
+    // ==================== 메모 ====================
+    // [{"ftitle": ..., "fcontent": ...}, ...]
+    public Report memos(InputStream body) {
+        return run("memo", "insert", body, p -> {
+            Map<String, Object> param = readObject(p);
+            String title = text(param, "ftitle", "");
+            String content = text(param, "fcontent", "");
+            if (title.trim().isEmpty() && content.trim().isEmpty()) {
+                throw new IllegalArgumentException("제목이나 내용 중 하나는 입력해야 합니다.");
+            }
+            return new PostInserter.MemoRow(title, content);
+        }, this::insertMemos);
+    }
+
+    // [fid, fid, ...]
+    public Report deleteMemos(InputStream body) {
+        return run("memo", "delete", body, BulkWriter::readId, this::deleteMemoRows);
+    }
+
+    private List<Integer> insertMemos(List<PostInserter.MemoRow> rows) {
+        List<Memo> created = postInserter.memos(rows);
+        created.forEach(memo -> events.publishEvent(MemoChangedEvent.created(memo)));
+        return created.stream().map(Memo::fid).toList();
+    }
+
+    private List<Integer> deleteMemoRows(List<Integer> fids) {
+        Map<Integer, Memo> deleted = new HashMap<>();
+        for (int from = 0; from < fids.size(); from += ID_CHUNK) {
+            List<Integer> chunk = fids.subList(from, Math.min(from + ID_CHUNK, fids.size()));
+            int inSize = SqlStatements.inListSize(chunk.size());
+            jdbc.query(SqlStatements.named("memo.bulk-delete",
+                            "DELETE FROM MEMO OUTPUT DELETED.FID, DELETED.FTITLE, DELETED.FCONTENT, DELETED.FCREATED_AT " +
+                            "WHERE FID IN (" + SqlStatements.inList(inSize) + ")"),
+                    (RowCallbackHandler) rs -> {
+                        Memo memo = Memo.MAPPER.mapRow(rs, 0);
+                        deleted.put(memo.fid(), memo);
+                    },
+                    SqlStatements.padInList(chunk.toArray(), inSize));
+        }
+        deleted.values().forEach(memo -> events.publishEvent(MemoChangedEvent.deleted(memo)));
+        return fids.stream().map(fid -> deleted.containsKey(fid) ? fid : null).toList();
+    }
+
+    // ==================== 공통 ====================
+    private <T> Report run(String table, String op, InputStream body, ItemReader<T> reader, ChunkWriter<T> writer) {
+        long start = System.nanoTime();
+        List<ItemResult> results = new ArrayList<>();
+        List<Pending<T>> chunk = new ArrayList<>();
+        int total = 0;
+        boolean truncated = false;
+        String error = null;
+
+        try (JsonParser p = objectMapper.getFactory().createParser(body)) {
+            if (p.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("요청 본문은 JSON 배열이어야 합니다.");
+            }
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("JSON 배열이 닫히지 않았습니다.");
+                }
+                if (total == maxItems) {
+                    truncated = true;
+                    break;
+                }
+                int index = total++;
+                try {
+                    chunk.add(new Pending<>(index, reader.read(p)));
+                } catch (IllegalArgumentException e) {
+                    results.add(new ItemResult(index, false, null, e.getMessage()));
+                    continue;
+                }
+                if (chunk.size() == chunkSize) {
+                    flush(table, chunk, writer, results);
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            error = "JSON 파싱 실패: " + e.getOriginalMessage();
+        } catch (IllegalArgumentException | IOException e) {
+            error = e.getMessage();
+        }
+        // 오류 전까지 읽은 항목은 반영한다 (앞선 chunk 는 이미 커밋됨)
+        flush(table, chunk, writer, results);
+
+        results.sort(Comparator.comparingInt(ItemResult::index));
+        int succeeded = (int) results.stream().filter(ItemResult::success).count();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        Report report = new Report(total, succeeded, elapsedMs, truncated, error, results);
+
+        Counter.builder("bulk.write.rows")
+                .description("대량 작성/삭제 항목 수")
+                .tags("table", table, "op", op, "outcome", "success")
+                .register(registry)
+                .increment(succeeded);
+        Counter.builder("bulk.write.rows")
+                .description("대량 작성/삭제 항목 수")
+                .tags("table", table, "op", op, "outcome", "failure")
+                .register(registry)
+                .increment(total - succeeded);
+        log.info("{} 대량 {} 완료 - 건수: {}, 성공: {}, 소요: {}ms, {} rows/s",
+                table, op, total, succeeded, elapsedMs, report.rowsPerSec());
+        return report;
+    }
+
+    private <T> void flush(String table, List<Pending<T>> chunk, ChunkWriter<T> writer, List<ItemResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<T> items = chunk.stream().map(Pending::item).toList();
+        try {
+            collect(chunk, tx.execute(status -> writer.write(items)), results);
+        } catch (RuntimeException e) {
+            // 한 항목 때문에 chunk 전체가 롤백되었을 수 있으므로 항목별 트랜잭션으로 다시 반영
+            log.warn("{} 대량 처리 chunk 실패, 항목별로 재시도 - 건수: {}, 원인: {}", table, chunk.size(), e.getMessage());
+            for (Pending<T> pending : chunk) {
+                try {
+                    collect(List.of(pending), tx.execute(status -> writer.write(List.of(pending.item()))), results);
+                } catch (RuntimeException single) {
+                    results.add(new ItemResult(pending.index(), false, null, single.getMessage()));
+                }
+            }
+        }
+    }
+
+    private static <T> void collect(List<Pending<T>> chunk, List<Integer> ids, List<ItemResult> results) {
+        for (int i = 0; i < chunk.size(); i++) {
+            Integer id = ids.get(i);
+            results.add(id != null
+                    ? new ItemResult(chunk.get(i).index(), true, id, null)
+                    : new ItemResult(chunk.get(i).index(), false, null, "대상을 찾을 수 없습니다."));
+        }
+    }
+
+    private Map<String, Object> readObject(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            throw new IllegalArgumentException("항목은 JSON 객체여야 합니다.");
+        }
+        return objectMapper.readValue(p, OBJECT);
+    }
+
+    private static Integer readId(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.VALUE_NUMBER_INT) {
+            p.skipChildren();
+            throw new IllegalArgumentException("ID 는 정수여야 합니다.");
+        }
+        // int 범위를 넘는 값은 getIntValue 가 JsonProcessingException 을 던져 요청 전체가 실패하므로 항목 오류로 돌린다
+        if (p.getNumberType() != JsonParser.NumberType.INT) {
+            throw new IllegalArgumentException("ID 가 정수 범위를 벗어났습니다: " + p.getText());
+        }
+        return p.getIntValue();
+    }
+
+    private static String text(Map<String, Object> param, String key, String defaultValue) {
+        Object value = param.get(key);
+        return value != null ? value.toString() : defaultValue;
+    }
+}
@@ -0,0 +1,395 @@
+package com.memo1.memo_server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.memo1.memo_server.event.BoardChangedEvent;
+import com.memo1.memo_server.event.MemoChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// 게시글/메모 변경 알림 (SSE, /api/feed)
+// 토픽: board (모든 게시판), board:<BR_CD>, memo
+// 커밋된 변경 이벤트마다 SSE 프레임 바이트를 한 번만 만들어 구독자별 큐(buffer-size)에 넣고, 소수의 전송 스레드가 큐를 비운다.
+// 소켓 쓰기는 서블릿 논블로킹 출력(WriteListener)으로 하므로 받지 않는 클라이언트가 있어도 전송 스레드가 멈추지 않는다.
+// 소켓이 받을 수 없으면 큐에 남겨 두고, 다시 쓸 수 있게 되면(onWritePossible) 이어서 보낸다.
+// 큐가 가득 찬 구독자는 느린 소비자로 보고 닫힘 표시만 한다. 연결 종료는 그 구독자의 전송 작업이 하므로
+// 쓰기 요청 스레드(발행)는 어떤 구독자도 기다리지 않는다.
+// 끊긴 클라이언트는 Last-Event-ID 로 다시 붙으면 replay-size 안의 이벤트를 다시 받고,
+// 그보다 오래됐거나 다른 인스턴스의 ID 면 reset 이벤트를 받는다 (목록을 다시 조회해야 함).
+// 대기 중인 연결은 스레드를 잡지 않는다 (서블릿 비동기). 이벤트는 이 인스턴스에서 커밋된 변경만 나간다.
+@Slf4j
+@Service
+public class ChangeFeed {
+
+    public static final String BOARD = "board";
+    public static final String MEMO = "memo";
+
+    private static final byte[] HEARTBEAT = frame(": ping\n\n");
+    private static final byte[] CONNECTED = frame(": connected\nretry: 3000\n\n");
+    private static final byte[] RESET = frame("event: reset\ndata: {}\n\n");
+
+    private final class Subscriber implements WriteListener, AsyncListener {
+        final AsyncContext async;
+        final ServletOutputStream out;
+        final Set<String> topics;
+        final ArrayBlockingQueue<byte[]> queue;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        volatile boolean closed;
+        volatile boolean completed;
+        // this 잠금 안에서만 사용 (쓰기는 논블로킹이라 잠금을 오래 잡지 않음)
+        private boolean unflushed;
+
+        Subscriber(AsyncContext async, ServletOutputStream out, Set<String> topics, int bufferSize) {
+            this.async = async;
+            this.out = out;
+            this.topics = topics;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        // 소켓이 받을 수 있는 만큼 큐를 비운다. 소켓이 가득 차서 멈췄으면 true (onWritePossible 이 다시 부름)
+        // 닫힌 구독자는 보내지 못한 프레임을 버리고 연결을 끝낸다
+        synchronized boolean write() throws IOException {
+            while (!closed && out.isReady()) {
+                byte[] frame = queue.poll();
+                if (frame != null) {
+                    out.write(frame);
+                    unflushed = true;
+                } else if (unflushed) {
+                    out.flush();
+                    unflushed = false;
+                } else {
+                    return false;
+                }
+            }
+            if (closed) {
+                complete();
+                return false;
+            }
+            return true;
+        }
+
+        synchronized void complete() {
+            if (!completed) {
+                completed = true;
+                try {
+                    async.complete();
+                } catch (IllegalStateException e) {
+                    // 이미 끝난 요청
+                }
+            }
+        }
+
+        @Override
+        public void onWritePossible() {
+            drain(this);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // 클라이언트가 끊은 경우
+            close(this);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            remove(this);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close(this);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close(this);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    private record Sent(long seq, String topic, byte[] frame) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int replaySize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final ExecutorService senders;
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Set<Subscriber>> byTopic = new ConcurrentHashMap<>();
+    private final ArrayDeque<Sent> replay = new ArrayDeque<>();
+    private long seq;
+
+    private final Counter published;
+    private final Counter dropped;
+
+    public ChangeFeed(ObjectMapper objectMapper,
+                      MeterRegistry registry,
+                      @Value("${feed.buffer-size:32}") int bufferSize,
+                      @Value("${feed.replay-size:1000}") int replaySize,
+                      @Value("${feed.max-subscribers:20000}") int maxSubscribers,
+                      @Value("${feed.timeout:30m}") Duration timeout,
+                      @Value("${feed.sender-threads:4}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread thread = new Thread(r, "feed-sender-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("feed.subscribers", subscribers, Set::size)
+                .description("변경 알림 구독 연결 수")
+                .register(registry);
+        this.published = Counter.builder("feed.events")
+                .description("발행된 변경 알림 수")
+                .register(registry);
+        this.dropped = Counter.builder("feed.dropped")
+                .description("큐가 가득 차서 끊은 느린 구독자 수")
+                .register(registry);
+    }
+
+    // ==================== 구독 ====================
+    // 구독자 수가 한도에 닿았으면 false (비동기 시작 전에 확인)
+    public boolean accepting() {
+        return subscribers.size() < maxSubscribers;
+    }
+
+    // 이미 시작된 비동기 요청(text/event-stream 헤더 설정 완료)을 구독자로 등록한다
+    public void subscribe(AsyncContext async, Set<String> topics, String lastEventId) throws IOException {
+        async.setTimeout(timeoutMillis);
+        Subscriber subscriber = new Subscriber(async, async.getResponse().getOutputStream(), normalize(topics), bufferSize);
+        async.addListener(subscriber);
+        // 논블로킹 출력으로 바꾼 뒤에 등록해야 전송 스레드가 isReady 를 부를 수 있다.
+        // 쓸 수 있게 되면 컨테이너가 onWritePossible 을 불러 큐를 비운다
+        subscriber.out.setWriteListener(subscriber);
+
+        // 발행과 같은 잠금 안에서 밀린 이벤트를 넣고 등록해야 순서가 섞이거나 빠지지 않는다
+        synchronized (this) {
+            subscriber.queue.offer(CONNECTED);
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replayTo(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+            for (String topic : subscriber.topics) {
+                byTopic.compute(topic, (k, set) -> {
+                    Set<Subscriber> target = set != null ? set : ConcurrentHashMap.<Subscriber>newKeySet();
+                    target.add(subscriber);
+                    return target;
+                });
+            }
+        }
+        schedule(subscriber);
+    }
+
+    // board 를 구독하면 board:<BR_CD> 는 따로 둘 필요가 없다 (같은 이벤트를 두 번 받지 않게)
+    private static Set<String> normalize(Set<String> topics) {
+        if (!topics.contains(BOARD)) {
+            return Set.copyOf(topics);
+        }
+        return topics.stream().filter(t -> !t.startsWith(BOARD + ":")).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private void replayTo(Subscriber subscriber, String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        long last = -1;
+        if (dash > 0 && lastEventId.substring(0, dash).equals(epoch)) {
+            try {
+                last = Long.parseLong(lastEventId.substring(dash + 1));
+            } catch (NumberFormatException ignored) {
+                // 형식이 다르면 reset
+            }
+        }
+        long oldest = replay.isEmpty() ? seq + 1 : replay.peekFirst().seq();
+        if (last < 0 || last > seq || last < oldest - 1) {
+            subscriber.queue.offer(RESET);
+            return;
+        }
+        for (Sent sent : replay) {
+            if (sent.seq() > last && matches(subscriber, sent.topic()) && !subscriber.queue.offer(sent.frame())) {
+                // 밀린 양이 버퍼보다 많으면 처음부터 다시 받게 한다
+                subscriber.queue.clear();
+                subscriber.queue.offer(RESET);
+                return;
+            }
+        }
+    }
+
+    private static boolean matches(Subscriber subscriber, String topic) {
+        return subscriber.topics.contains(topic)
+                || (topic.startsWith(BOARD + ":") && subscriber.topics.contains(BOARD));
+    }
+
+    // ==================== 발행 ====================
+    // 커밋 후, ETag 버전(ChangeVersions)이 오른 다음에 알린다 (알림을 받고 바로 조회해도 304 가 나오지 않게)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("type", event.type());
+        data.put("br_seq", event.seq());
+        data.put("br_cd", event.brCd());
+        if (event.title() != null) {
+            data.put("br_title", event.title());
+        }
+        publish(BOARD + ":" + event.brCd(), BOARD, data);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemoChanged(MemoChangedEvent event) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("type", event.type());
+        data.put("fid", event.fid());
+        if (event.title() != null) {
+            data.put("ftitle", event.title());
+        }
+        publish(MEMO, MEMO, data);
+    }
+
+    // 잠금 안에서는 큐에 넣기만 한다 (소켓 쓰기나 연결 종료는 전송 스레드에서)
+    private synchronized void publish(String topic, String name, Map<String, Object> data) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.warn("변경 알림 직렬화 실패: {}", e.getMessage());
+            return;
+        }
+        long id = ++seq;
+        byte[] frame = frame("id: " + epoch + "-" + id + "\nevent: " + name + "\ndata: " + json + "\n\n");
+        replay.addLast(new Sent(id, topic, frame));
+        if (replay.size() > replaySize) {
+            replay.removeFirst();
+        }
+        published.increment();
+
+        deliver(byTopic.get(topic), frame);
+        if (topic.startsWith(BOARD + ":")) {
+            deliver(byTopic.get(BOARD), frame);
+        }
+    }
+
+    // 연결이 오래 조용하면 프록시가 끊으므로 주기적으로 주석 한 줄을 보낸다
+    // (받지 않는 연결은 큐가 차서 여기서도 정리됨)
+    @Scheduled(fixedRateString = "${feed.heartbeat:PT30S}")
+    public void heartbeat() {
+        deliver(subscribers, HEARTBEAT);
+    }
+
+    private void deliver(Set<Subscriber> targets, byte[] frame) {
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            if (subscriber.queue.offer(frame)) {
+                schedule(subscriber);
+            } else if (!subscriber.closed) {
+                dropped.increment();
+                log.debug("느린 구독자 연결 종료 - 토픽: {}", subscriber.topics);
+                close(subscriber);
+            }
+        }
+    }
+
+    // SSE 프레임 (data 의 JSON 은 한 줄)
+    private static byte[] frame(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ==================== 전송 ====================
+    // 구독자마다 전송 작업은 최대 하나만 돈다 (scheduled). 닫힌 구독자는 전송 작업이 연결을 끝낸다
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    // 전송 스레드와 onWritePossible(컨테이너 스레드) 양쪽에서 불린다. 쓰기는 구독자 잠금으로 한 번에 하나씩
+    private void drain(Subscriber subscriber) {
+        boolean waiting = false;
+        try {
+            waiting = subscriber.write();
+        } catch (Exception e) {
+            // 클라이언트가 끊은 경우
+            remove(subscriber);
+            subscriber.complete();
+        } finally {
+            subscriber.scheduled.set(false);
+            // 소켓이 가득 찼으면 onWritePossible 이 이어서 보낸다. 아니면 그사이 들어온 프레임을 보내거나 닫는다
+            if (!subscriber.completed && (subscriber.closed || (!waiting && !subscriber.queue.isEmpty()))) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    // 닫힘 표시 후 전송 작업에 연결 종료를 맡긴다
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        schedule(subscriber);
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (subscribers.remove(subscriber)) {
+            // 구독자가 없는 토픽은 지워서 토픽 수가 계속 늘지 않게 한다
+            for (String topic : subscriber.topics) {
+                byTopic.computeIfPresent(topic, (k, set) -> {
+                    set.remove(subscriber);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Subscriber> open = new ArrayList<>(subscribers);
+        open.forEach(this::remove);
+        open.forEach(Subscriber::complete);
+        senders.shutdownNow();
+    }
+}
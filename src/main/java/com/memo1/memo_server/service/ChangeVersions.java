@@ -0,0 +1,101 @@
+package com.memo1.memo_server.service;
+
+import com.memo1.memo_server.event.BoardChangedEvent;
+import com.memo1.memo_server.event.MemoChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 조건부 GET(If-None-Match → 304) 용 변경 버전
+// 게시판별 / 메모 테이블 버전은 목록·검색 응답에, 행 단위 버전은 상세 응답에 쓴다.
+// 행 단위 버전은 키를 STRIPES 칸에 나눠 담으므로 메모리가 일정하다 (같은 칸의 다른 행이 바뀌면 304 대신 200 이 나갈 뿐).
+// ETag 에 인스턴스마다 다른 epoch 를 넣어서 재시작이나 다른 서버의 같은 버전 번호와 겹치지 않게 한다.
+// 다른 인스턴스나 DB 직접 변경은 이 인스턴스의 버전을 올리지 않으므로, ETag 에 maxAge 단위 시간 구간을 넣어
+// 어떤 ETag 도 maxAge 보다 오래 유효하지 않게 한다 (구간이 바뀌면 한 번 200 으로 다시 받는다).
+@Service
+public class ChangeVersions {
+
+    private static final int STRIPES = 4096;
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final ConcurrentHashMap<String, AtomicLong> boards = new ConcurrentHashMap<>();
+    private final AtomicLongArray boardPosts = new AtomicLongArray(STRIPES);
+    private final AtomicLong memos = new AtomicLong();
+    private final AtomicLongArray memoRows = new AtomicLongArray(STRIPES);
+    private final long maxAgeMillis;
+    private volatile long lastChangedAt;
+
+    // maxAge 0 이면 시간 구간 없이 이 인스턴스의 변경으로만 바뀐다 (쓰기가 이 인스턴스 하나로만 들어올 때)
+    public ChangeVersions(@Value("${cache.etag.max-age:1m}") Duration maxAge) {
+        this.maxAgeMillis = maxAge.toMillis();
+    }
+
+    // ==================== ETag ====================
+    // 조회 쿼리보다 먼저 읽어야 한다 (그래야 응답 내용이 ETag 버전보다 오래될 수 없다)
+    public String boardList(String brCd) {
+        AtomicLong version = boards.get(brCd);
+        return etag(version != null ? version.get() : 0);
+    }
+
+    public String boardPost(int seq) {
+        return etag(boardPosts.get(stripe(seq)));
+    }
+
+    public String memoList() {
+        return etag(memos.get());
+    }
+
+    public String memo(int fid) {
+        return etag(memoRows.get(stripe(fid)));
+    }
+
+    // Tomcat 은 strong ETag 응답을 압축하지 않으므로 weak ETag 사용
+    private String etag(long version) {
+        long window = maxAgeMillis > 0 ? System.currentTimeMillis() / maxAgeMillis : 0;
+        return "W/\"" + epoch + "-" + Long.toString(window, 36) + "-" + Long.toString(version, 36) + "\"";
+    }
+
+    // 마지막으로 버전을 올린 시각(ms). 읽기 복제본이 그 변경을 받았을 만큼 지났는지 판단한다 (ReadReplicas)
+    public long lastChangedAt() {
+        return lastChangedAt;
+    }
+
+    private static int stripe(int key) {
+        return Math.floorMod(key, STRIPES);
+    }
+
+    // ==================== 버전 증가 ====================
+    // 시각을 버전보다 먼저 기록한다. 새 버전을 읽은 요청은 항상 새 시각도 본다
+    public void bumpBoard(String brCd) {
+        lastChangedAt = System.currentTimeMillis();
+        boards.computeIfAbsent(brCd, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    // 커밋 후, 상세 캐시 무효화(DetailCache) 다음, 변경 알림(ChangeFeed) 전에 올린다.
+    // 먼저 올리면 새 ETag 로 캐시에 남아 있던 이전 내용을 내보낼 수 있다.
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        lastChangedAt = System.currentTimeMillis();
+        boardPosts.incrementAndGet(stripe(event.seq()));
+        if (event.brCd() != null) {
+            bumpBoard(event.brCd());
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemoChanged(MemoChangedEvent event) {
+        lastChangedAt = System.currentTimeMillis();
+        memoRows.incrementAndGet(stripe(event.fid()));
+        memos.incrementAndGet();
+    }
+}
@@ -0,0 +1,129 @@
+package com.memo1.memo_server.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.memo1.memo_server.dto.Board;
+import com.memo1.memo_server.dto.Memo;
+import com.memo1.memo_server.event.BoardChangedEvent;
+import com.memo1.memo_server.event.MemoChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 게시글/메모 상세 조회 read-through 캐시
+// 건수가 아니라 추정 바이트로 용량을 제한하고 (BR_CONTENT 가 클 수 있음), TTL 로도 만료시킨다.
+// 수정/삭제 이벤트가 오면 해당 키만 무효화한다.
+// DB 조회는 캐시 내부 잠금(synchronized) 밖에서 하므로 가상 스레드가 I/O 중에 캐리어에 고정되지 않는다.
+@Service
+public class DetailCache {
+
+    private final AsyncCache<Integer, Board> boards;
+    private final AsyncCache<Integer, Memo> memos;
+
+    public DetailCache(MeterRegistry registry,
+                       @Value("${cache.detail.max-bytes:64MB}") DataSize maxBytes,
+                       @Value("${cache.detail.ttl:30s}") Duration ttl) {
+        this.boards = build(maxBytes, ttl, (Integer seq, Board b) ->
+                estimateBytes(b.brCd(), b.brTitle(), b.brContent(), b.brFile(), b.brRegId()));
+        this.memos = build(maxBytes, ttl, (Integer fid, Memo m) ->
+                estimateBytes(m.ftitle(), m.fcontent()));
+        CaffeineCacheMetrics.monitor(registry, boards, "board.detail");
+        CaffeineCacheMetrics.monitor(registry, memos, "memo.detail");
+    }
+
+    private static <V> AsyncCache<Integer, V> build(DataSize maxBytes, Duration ttl, Weigher<Integer, V> weigher) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher(weigher)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    // 없으면 loader 로 조회해서 적재. loader 예외(조회 결과 없음 등)는 캐시하지 않고 그대로 던진다
+    public Board board(int seq, Supplier<Board> loader) {
+        return load(boards, seq, loader);
+    }
+
+    public Memo memo(int fid, Supplier<Memo> loader) {
+        return load(memos, fid, loader);
+    }
+
+    // 논블로킹 조회용 (/rx/api). loader 는 조회를 시작한 future 만 돌려주므로 캐시 잠금 안에서 불러도 된다.
+    // 결과가 null 이거나 실패한 future 는 캐시에 남지 않는다
+    public CompletableFuture<Board> boardAsync(int seq, Supplier<CompletableFuture<Board>> loader) {
+        return boards.get(seq, (k, executor) -> loader.get());
+    }
+
+    public CompletableFuture<Memo> memoAsync(int fid, Supplier<CompletableFuture<Memo>> loader) {
+        return memos.get(fid, (k, executor) -> loader.get());
+    }
+
+    // 캐시 잠금 안에서는 빈 future 만 등록하고, 조회는 그 future 를 등록한 호출자가 잠금 밖에서 한다.
+    // 같은 키의 동시 요청은 그 future 를 기다린다. 조회 중에 무효화되면 결과는 캐시에 남지 않는다.
+    private static <V> V load(AsyncCache<Integer, V> cache, int key, Supplier<V> loader) {
+        AtomicReference<CompletableFuture<V>> created = new AtomicReference<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> {
+            CompletableFuture<V> pending = new CompletableFuture<>();
+            created.set(pending);
+            return pending;
+        });
+
+        if (future == created.get()) {
+            try {
+                V value = loader.get();
+                future.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+    }
+
+    // ETag 버전(ChangeVersions)보다 먼저 무효화
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.type() != BoardChangedEvent.Type.CREATED) {
+            boards.synchronous().invalidate(event.seq());
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemoChanged(MemoChangedEvent event) {
+        if (event.type() != MemoChangedEvent.Type.CREATED) {
+            memos.synchronous().invalidate(event.fid());
+        }
+    }
+
+    // 행 하나가 힙에서 차지하는 대략적인 바이트 (레코드 + 타임스탬프 + 문자열은 UTF-16 기준으로 넉넉하게)
+    static int estimateBytes(String... strings) {
+        long bytes = 96;
+        for (String s : strings) {
+            if (s != null) {
+                bytes += 40L + 2L * s.length();
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,233 @@
+package com.memo1.memo_server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.memo1.memo_server.event.BoardChangedEvent;
+import com.memo1.memo_server.support.RoutingDataSource;
+import com.memo1.memo_server.support.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+// 게시판 목록 앞쪽 페이지의 응답 JSON 바이트 캐시 (board.hot-pages)
+// 등록된 게시판의 page 1..pages, sizes 에 있는 size 의 OFFSET 목록(커서 없음, total=true)만 담는다.
+// 만들 때 한 번 직렬화하고 gzip 본도 같이 만들어 두므로, 요청은 바이트를 응답에 복사만 한다 (Jackson / 톰캣 압축 없음).
+// 항목은 만들 때 읽은 게시판 버전(ChangeVersions)을 같이 들고 있어서 버전이 다르면 쓰지 않는다.
+// 다른 인스턴스나 DB 직접 변경은 버전을 바로 올리지 않으므로, 만든 지 maxAge 가 지난 항목도 쓰지 않는다.
+// 항목은 다음 변경까지 모든 클라이언트에 나가므로, 요청 스레드에서 만들 때도 읽기 복제본이 아닌 주 DB 에서 읽는다.
+// 게시판에 변경이 커밋되면 그 게시판의 항목들을 백그라운드에서 다시 만든다. 한꺼번에 몰린 변경은 한 번으로 합친다.
+// 버전이 바뀌었는데 아직 다시 만들지 못했으면 첫 요청이 만들고 (동시 요청은 SingleFlight 로 합침) 나머지는 그 결과를 쓴다.
+@Slf4j
+@Service
+public class HotPageCache {
+
+    public record Key(String brCd, int page, int size, String view) {
+    }
+
+    private record Entry(String version, long builtAt, byte[] json, byte[] gzip) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final ChangeVersions versions;
+    private final BoardRegistry boardRegistry;
+    private final SingleFlight singleFlight;
+    private final boolean enabled;
+    private final int pages;
+    private final Set<Integer> sizes;
+    private final long maxAgeNanos;
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, Function<Key, Object>> loaders = new ConcurrentHashMap<>();
+    private final Set<String> pendingRebuilds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "hot-page-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public HotPageCache(ObjectMapper objectMapper,
+                        ChangeVersions versions,
+                        BoardRegistry boardRegistry,
+                        SingleFlight singleFlight,
+                        MeterRegistry registry,
+                        @Value("${board.hot-pages.enabled:true}") boolean enabled,
+                        @Value("${board.hot-pages.pages:3}") int pages,
+                        @Value("${board.hot-pages.sizes:10}") Set<Integer> sizes,
+                        @Value("${board.hot-pages.max-age:5s}") Duration maxAge) {
+        this.objectMapper = objectMapper;
+        this.versions = versions;
+        this.boardRegistry = boardRegistry;
+        this.singleFlight = singleFlight;
+        this.enabled = enabled;
+        this.pages = pages;
+        this.sizes = Set.copyOf(sizes);
+        this.maxAgeNanos = maxAge.toNanos();
+
+        Gauge.builder("board.hot-pages.bytes", entries,
+                        e -> e.values().stream().mapToLong(v -> v.json().length + v.gzip().length).sum())
+                .description("목록 페이지 바이트 캐시 크기 (JSON + gzip)")
+                .register(registry);
+        this.hits = Counter.builder("board.hot-pages.requests")
+                .description("목록 페이지 바이트 캐시 조회 수")
+                .tag("outcome", "hit")
+                .register(registry);
+        this.misses = Counter.builder("board.hot-pages.requests")
+                .description("목록 페이지 바이트 캐시 조회 수")
+                .tag("outcome", "miss")
+                .register(registry);
+    }
+
+    // 캐시 대상 요청인지 (커서/afterSeq/total=false 요청은 대상이 아님)
+    public boolean covers(String brCd, int page, int size) {
+        return enabled && page >= 1 && page <= pages && sizes.contains(size) && boardRegistry.isRegistered(brCd);
+    }
+
+    // Accept-Encoding 에서 gzip 의 q 값이 0 보다 큰지 (gzip 이 없으면 * 의 q 값)
+    // gzip;q=0 은 거절이고, x-gzip 만 보낸 클라이언트에는 Content-Encoding: gzip 을 보내지 않는다
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim().toLowerCase(Locale.ROOT);
+                if (param.startsWith("q=")) {
+                    q = quality(param.substring(2).trim());
+                }
+            }
+            if (coding.equals("gzip")) {
+                gzip = q;
+            } else if (coding.equals("*")) {
+                any = q;
+            }
+        }
+        return (gzip >= 0 ? gzip : any) > 0;
+    }
+
+    // qvalue = ( "0" [ "." 0*3DIGIT ] ) / ( "1" [ "." 0*3("0") ] ). 형식이 틀리면 0 (받지 않음)
+    private static double quality(String value) {
+        if (!value.matches("0(\\.\\d{0,3})?|1(\\.0{0,3})?")) {
+            return 0;
+        }
+        return Double.parseDouble(value);
+    }
+
+    // ==================== 조회 ====================
+    // version 은 조회 쿼리보다 먼저 읽은 게시판 버전. loader 는 응답 본문(Map)을 만들고 실패하면 예외를 던진다
+    // 만들지 못하면 null (호출한 쪽이 원래 경로로 처리)
+    public ResponseEntity<byte[]> get(Key key, String version, boolean acceptsGzip, Function<Key, Object> loader) {
+        Entry entry = entries.get(key);
+        if (fresh(entry, version)) {
+            hits.increment();
+            return response(entry, acceptsGzip);
+        }
+        misses.increment();
+        loaders.putIfAbsent(key, loader);
+        try {
+            entry = singleFlight.execute("board.hot-page", List.of(key, version), () -> build(key, version, loader));
+            return response(entry, acceptsGzip);
+        } catch (Exception e) {
+            log.warn("목록 페이지 캐시 생성 실패 - {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean fresh(Entry entry, String version) {
+        return entry != null && entry.version().equals(version) && System.nanoTime() - entry.builtAt() < maxAgeNanos;
+    }
+
+    private Entry build(Key key, String version, Function<Key, Object> loader) {
+        try {
+            long builtAt = System.nanoTime();
+            byte[] json = objectMapper.writeValueAsBytes(RoutingDataSource.onPrimary(() -> loader.apply(key)));
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(json);
+            }
+            Entry entry = new Entry(version, builtAt, json, buffer.toByteArray());
+            entries.put(key, entry);
+            return entry;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ETag 는 호출한 쪽의 checkNotModified 가 이미 붙였다. gzip 본을 보내면 톰캣은 다시 압축하지 않는다
+    private static ResponseEntity<byte[]> response(Entry entry, boolean acceptsGzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip());
+        }
+        return builder.body(entry.json());
+    }
+
+    // ==================== 다시 만들기 ====================
+    // ETag 버전(ChangeVersions)이 오른 뒤에 실행되도록 가장 늦게
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        String brCd = event.brCd();
+        if (brCd == null || !enabled || !pendingRebuilds.add(brCd)) {
+            return;
+        }
+        rebuilder.execute(() -> rebuild(brCd));
+    }
+
+    // 요청 밖 스레드라 원래 주 DB 에서 읽는다
+    private void rebuild(String brCd) {
+        pendingRebuilds.remove(brCd);
+        String version = versions.boardList(brCd);
+        int rebuilt = 0;
+        for (Map.Entry<Key, Function<Key, Object>> loader : loaders.entrySet()) {
+            Key key = loader.getKey();
+            Entry current = entries.get(key);
+            if (!key.brCd().equals(brCd) || fresh(current, version)) {
+                continue;
+            }
+            try {
+                singleFlight.execute("board.hot-page", List.of(key, version), () -> build(key, version, loader.getValue()));
+                rebuilt++;
+            } catch (Exception e) {
+                log.warn("목록 페이지 캐시 재생성 실패 - {}: {}", key, e.getMessage());
+            }
+        }
+        log.debug("목록 페이지 캐시 재생성 - BR_CD: {}, 페이지 수: {}", brCd, rebuilt);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+}
@@ -0,0 +1,132 @@
+package com.memo1.memo_server.service;
+
+import com.memo1.memo_server.event.MemoChangedEvent;
+import com.memo1.memo_server.search.InvertedIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// MEMO 의 FTITLE/FCONTENT 바이그램 역색인
+// search.engine=index 일 때만 시작 시 구축하며, 구축 전에는 isReady() 가 false 라 LIKE 로 처리된다.
+// 구축 중에 들어온 변경 이벤트는 스캔이 끝난 뒤 새 색인에 다시 적용하고 교체한다 (BoardSearchIndex 와 같음).
+@Slf4j
+@Service
+public class MemoSearchIndex {
+
+    private final JdbcTemplate jdbc;
+    private final boolean enabled;
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+    // 구축 중에 들어온 변경 (구축 중이 아니면 null). this 로 보호
+    private List<MemoChangedEvent> pending;
+
+    public MemoSearchIndex(JdbcTemplate jdbc,
+                           MeterRegistry registry,
+                           @Value("${search.engine:like}") String engine) {
+        this.jdbc = jdbc;
+        this.enabled = "index".equalsIgnoreCase(engine);
+        Gauge.builder("search.index.docs", this, MemoSearchIndex::size)
+                .tag("index", "memo")
+                .register(registry);
+        Gauge.builder("search.index.text.bytes", this, MemoSearchIndex::textBytes)
+                .description("검색어 확인용으로 보관한 원문의 추정 힙 크기")
+                .tag("index", "memo")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 일치하는 FID (오름차순). 색인을 쓸 수 없으면 null
+    public int[] match(String keyword) {
+        return ready ? index.match(keyword) : null;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public long textBytes() {
+        return index.textBytes();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread builder = new Thread(this::rebuild, "memo-index-build");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    @Scheduled(fixedDelayString = "${search.rebuild-interval:PT1H}",
+               initialDelayString = "${search.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    void rebuild() {
+        synchronized (this) {
+            if (pending != null) {
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        long start = System.currentTimeMillis();
+        InvertedIndex built = new InvertedIndex();
+        try {
+            jdbc.query("SELECT FID, FTITLE, FCONTENT FROM MEMO", rs -> {
+                built.put(rs.getInt(1), rs.getString(2), rs.getString(3));
+            });
+            synchronized (this) {
+                for (MemoChangedEvent event : pending) {
+                    apply(built, event);
+                }
+                index = built;
+                ready = true;
+            }
+            log.info("메모 검색 색인 구축 완료 - 문서 수: {}, 소요: {}ms", built.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("메모 검색 색인 구축 실패, {}: {}", ready ? "기존 색인을 계속 씁니다" : "LIKE 검색으로 처리합니다", e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemoChanged(MemoChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            if (pending != null) {
+                pending.add(event);
+            }
+            apply(index, event);
+        }
+    }
+
+    private static void apply(InvertedIndex index, MemoChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> index.put(event.fid(), event.title(), event.content());
+            case DELETED -> index.remove(event.fid());
+        }
+    }
+}
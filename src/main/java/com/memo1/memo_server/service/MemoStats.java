@@ -0,0 +1,289 @@
+package com.memo1.memo_server.service;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.memo1.memo_server.event.MemoChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// /api/memos/stats 용 메모 통계 스냅샷
+// 메모 추가/수정/삭제 이벤트로 건수와 최근 메모 목록을 바로 갱신하고, 주기적으로 집계 쿼리 한 번으로 다시 맞춘다.
+// 조회는 volatile 스냅샷을 읽기만 한다. 최근 메모는 표시할 개수보다 넉넉히 들고 있어서 삭제가 몇 건 있어도 DB 를 다시 읽지 않는다.
+// 삭제로 최근 목록이 모자라면 커밋 스레드를 막지 않도록 백그라운드에서 최근 목록(TOP n)만 다시 읽는다.
+// 재집계는 BoardPostCounter 대사와 같은 방식: 집계 쿼리 직전의 누적 증감을 잡아 두고, 쿼리 결과에 그 이후 증감만 더한다.
+@Slf4j
+@Service
+public class MemoStats {
+
+    // SUM(CASE ...) 는 행이 없으면 NULL
+    private static final String AGGREGATE_SQL =
+            "SELECT COUNT(*), " +
+            "ISNULL(SUM(CASE WHEN FTITLE IS NOT NULL AND FTITLE != '' THEN 1 ELSE 0 END), 0), " +
+            "ISNULL(SUM(CASE WHEN FCONTENT IS NOT NULL AND FCONTENT != '' THEN 1 ELSE 0 END), 0) " +
+            "FROM MEMO";
+    private static final String RECENT_SQL =
+            "SELECT TOP (?) FID, FTITLE, FCREATED_AT FROM MEMO ORDER BY FCREATED_AT DESC, FID DESC";
+
+    // 최근 목록 재적용용으로 들고 있는 최근 이벤트 수
+    private static final int HISTORY = 1000;
+
+    private static final Comparator<Recent> NEWEST_FIRST = Comparator
+            .comparing(Recent::fcreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Comparator.comparingInt(Recent::fid).reversed());
+
+    // 최근 메모 한 건. JSON 필드명은 기존 queryForList 응답과 동일
+    public record Recent(@JsonProperty("FID") int fid,
+                         @JsonProperty("FTITLE") String ftitle,
+                         @JsonProperty("FCREATED_AT") Timestamp fcreatedAt) {
+    }
+
+    public record Snapshot(long totalMemos, long titledMemos, long contentMemos, List<Recent> recentMemos) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final int recentSize;
+    private final int ringSize;
+    private final Timer rebuildTimer;
+    private final Counter corrected;
+
+    // 아래 필드는 모두 this 로 보호. 읽기는 snapshot 만 본다
+    private long total;
+    private long titled;
+    private long withContent;
+    private List<Recent> ring = List.of();
+    private boolean loaded;
+    private volatile Snapshot snapshot;
+
+    // 이벤트로 반영한 누적 증감 (total, titled, withContent). 재집계 시 쿼리 이후 증감만 남기는 데 쓴다
+    private final long[] delta = new long[3];
+    // 반영한 이벤트 수와 최근 이벤트 (재집계 중 들어온 변경을 최근 목록에 다시 적용)
+    private long applied;
+    private final ArrayDeque<MemoChangedEvent> history = new ArrayDeque<>();
+
+    // 최근 목록 다시 읽기. 한꺼번에 몰린 삭제는 한 번으로 합친다
+    private final AtomicBoolean refillPending = new AtomicBoolean();
+    private final ExecutorService refiller = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "memo-stats-refill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MemoStats(JdbcTemplate jdbc,
+                     MeterRegistry registry,
+                     @Value("${memo.stats.recent-size:5}") int recentSize) {
+        this.jdbc = jdbc;
+        this.recentSize = recentSize;
+        this.ringSize = recentSize * 4;
+        this.rebuildTimer = Timer.builder("memo.stats.rebuild")
+                .description("메모 통계 재집계 소요 시간")
+                .register(registry);
+        this.corrected = Counter.builder("memo.stats.corrected")
+                .description("재집계로 보정된 메모 건수 차이 누적")
+                .register(registry);
+    }
+
+    // ==================== 조회 ====================
+    public Snapshot snapshot() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            rebuild();
+            s = snapshot;
+        }
+        return s;
+    }
+
+    // ==================== 증분 갱신 ====================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemoChanged(MemoChangedEvent event) {
+        boolean refill;
+        synchronized (this) {
+            if (!loaded) {
+                return;
+            }
+            applied++;
+            history.addLast(event);
+            if (history.size() > HISTORY) {
+                history.removeFirst();
+            }
+            refill = apply(event);
+            publish();
+        }
+        // 삭제로 최근 목록이 표시 개수보다 줄어들었을 때만 다시 읽는다
+        if (refill && refillPending.compareAndSet(false, true)) {
+            refiller.execute(this::refillRecent);
+        }
+    }
+
+    // 최근 목록만 다시 읽는다 (건수는 이벤트로 이미 맞으므로 집계 쿼리는 하지 않음)
+    private void refillRecent() {
+        refillPending.set(false);
+        try {
+            long appliedBefore;
+            synchronized (this) {
+                appliedBefore = applied;
+            }
+            List<Recent> recent = queryRecent();
+            synchronized (this) {
+                replaceRecent(recent, appliedBefore);
+                publish();
+            }
+        } catch (Exception e) {
+            log.warn("최근 메모 목록 다시 읽기 실패, 다음 재집계 때 반영: {}", e.getMessage());
+        }
+    }
+
+    // 최근 목록을 다시 채워야 하면 true
+    private boolean apply(MemoChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> adjust(event.title(), event.content(), 1);
+            case UPDATED -> {
+                adjust(event.previous().ftitle(), event.previous().fcontent(), -1);
+                adjust(event.title(), event.content(), 1);
+            }
+            case DELETED -> adjust(event.previous().ftitle(), event.previous().fcontent(), -1);
+        }
+        applyRecent(event);
+        return event.type() == MemoChangedEvent.Type.DELETED && ring.size() < recentSize && total > ring.size();
+    }
+
+    // 최근 목록 갱신 (같은 이벤트를 다시 적용해도 결과가 같다)
+    private void applyRecent(MemoChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> {
+                List<Recent> next = new ArrayList<>(ring);
+                next.removeIf(r -> r.fid() == event.fid());
+                next.add(new Recent(event.fid(), event.title(), event.createdAt()));
+                next.sort(NEWEST_FIRST);
+                ring = List.copyOf(next.subList(0, Math.min(next.size(), ringSize)));
+            }
+            case UPDATED -> ring = ring.stream()
+                    .map(r -> r.fid() == event.fid() ? new Recent(r.fid(), event.title(), r.fcreatedAt()) : r)
+                    .toList();
+            case DELETED -> ring = ring.stream().filter(r -> r.fid() != event.fid()).toList();
+        }
+    }
+
+    private void adjust(String title, String content, int amount) {
+        total += amount;
+        delta[0] += amount;
+        if (hasText(title)) {
+            titled += amount;
+            delta[1] += amount;
+        }
+        if (hasText(content)) {
+            withContent += amount;
+            delta[2] += amount;
+        }
+    }
+
+    private void publish() {
+        snapshot = new Snapshot(total, titled, withContent, ring.subList(0, Math.min(ring.size(), recentSize)));
+    }
+
+    // SQL Server 의 != '' 와 같은 판정 (비교 시 뒤쪽 공백은 무시됨)
+    private static boolean hasText(String s) {
+        if (s == null) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) != ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ==================== 재집계 ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            rebuild();
+            log.info("메모 통계 초기화 완료 - 총 메모 수: {}", snapshot.totalMemos());
+        } catch (Exception e) {
+            log.warn("메모 통계 초기화 실패, 첫 조회 시 다시 시도: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${memo.stats.rebuild-interval:PT5M}",
+               initialDelayString = "${memo.stats.rebuild-interval:PT5M}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("메모 통계 재집계 실패: {}", e.getMessage());
+        }
+    }
+
+    // 재집계끼리 겹쳐도(주기 재집계와 첫 조회 등) 각자 잡아 둔 증감만 쓰므로 서로의 변경을 지우지 않는다
+    void rebuild() {
+        rebuildTimer.record(() -> {
+            long[] deltaBefore;
+            synchronized (this) {
+                deltaBefore = delta.clone();
+            }
+            long[] counts = new long[3];
+            jdbc.query(AGGREGATE_SQL, rs -> {
+                counts[0] = rs.getLong(1);
+                counts[1] = rs.getLong(2);
+                counts[2] = rs.getLong(3);
+            });
+            long appliedBefore;
+            synchronized (this) {
+                appliedBefore = applied;
+            }
+            List<Recent> recent = queryRecent();
+
+            synchronized (this) {
+                long before = total;
+                // 집계 쿼리 시작 이후 반영된 증감만 더한다 (그 전의 변경은 쿼리 결과에 들어 있음)
+                total = counts[0] + (delta[0] - deltaBefore[0]);
+                titled = counts[1] + (delta[1] - deltaBefore[1]);
+                withContent = counts[2] + (delta[2] - deltaBefore[2]);
+                replaceRecent(recent, appliedBefore);
+                if (loaded && before != total) {
+                    corrected.increment(Math.abs(before - total));
+                }
+                loaded = true;
+                publish();
+            }
+        });
+    }
+
+    private List<Recent> queryRecent() {
+        return jdbc.query(RECENT_SQL,
+                (rs, rowNum) -> new Recent(rs.getInt(1), rs.getString(2), rs.getTimestamp(3)),
+                ringSize);
+    }
+
+    // this 를 잡고 호출. 최근 목록 쿼리 이후 들어온 변경은 다시 적용한다 (여러 번 적용해도 같음)
+    private void replaceRecent(List<Recent> recent, long appliedBefore) {
+        ring = List.copyOf(recent);
+        long since = applied - appliedBefore;
+        history.stream()
+                .skip(Math.max(0, history.size() - since))
+                .forEach(this::applyRecent);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refiller.shutdownNow();
+    }
+}
@@ -0,0 +1,190 @@
+package com.memo1.memo_server.service;
+
+import com.memo1.memo_server.dto.Memo;
+import com.memo1.memo_server.support.InsertBatcher;
+import com.memo1.memo_server.support.SqlStatements;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+// 게시글/메모 INSERT
+// 단건은 INSERT ... OUTPUT INSERTED 로 한 번에 ID(메모는 생성 시각까지)를 받는다 (MAX/IDENT_CURRENT 재조회 없음).
+// write.batch.enabled=true 면 동시 요청을 모아 MERGE ... OUTPUT 한 번으로 넣는다.
+// 여러 행 INSERT 의 OUTPUT 순서는 보장되지 않으므로 MERGE 로 원본 행 번호(ORD)를 같이 받아 ID 를 돌려준다.
+// 배치 INSERT 는 배처 스레드의 별도 트랜잭션에서 커밋되므로 호출자 트랜잭션에 묶이지 않는다.
+// MERGE 후에 실패해도(결과 행 수 불일치, OUTPUT 읽기 오류) 롤백되므로 배처가 단건으로 다시 넣어도 두 번 들어가지 않는다.
+// boards/memos 는 배처를 거치지 않고 호출 스레드에서 바로 MERGE 하므로 호출자 트랜잭션에 묶인다 (대량 작성용).
+@Slf4j
+@Service
+public class PostInserter {
+
+    // SQL Server 한 문장 파라미터 최대 2100개
+    private static final int MAX_PARAMS = 2000;
+    private static final int BOARD_MERGE_ROWS = MAX_PARAMS / 6;
+    private static final int MEMO_MERGE_ROWS = MAX_PARAMS / 3;
+
+    private static final String BOARD_INSERT_SQL = SqlStatements.named("board.insert",
+            "INSERT INTO TBOARD (BR_CD, BR_TITLE, BR_CONTENT, BR_FILE, BR_REG_ID) OUTPUT INSERTED.BR_SEQ VALUES (?, ?, ?, ?, ?)");
+    private static final String MEMO_INSERT_SQL = SqlStatements.named("memo.insert",
+            "INSERT INTO MEMO (FTITLE, FCONTENT) OUTPUT INSERTED.FID, INSERTED.FCREATED_AT VALUES (?, ?)");
+
+    public record BoardRow(String brCd, String title, String content, String file, String regId) {
+    }
+
+    public record MemoRow(String title, String content) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final InsertBatcher<BoardRow, Integer> boardBatcher;
+    private final InsertBatcher<MemoRow, Memo> memoBatcher;
+
+    public PostInserter(JdbcTemplate jdbc,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry registry,
+                        @Value("${write.batch.enabled:false}") boolean enabled,
+                        @Value("${write.batch.max-size:100}") int maxSize,
+                        @Value("${write.batch.linger:5ms}") Duration linger,
+                        @Value("${write.batch.queue-capacity:10000}") int queueCapacity) {
+        this.jdbc = jdbc;
+        if (enabled) {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            this.boardBatcher = new InsertBatcher<>("board", Math.min(maxSize, BOARD_MERGE_ROWS), linger, queueCapacity,
+                    rows -> tx.execute(status -> insertBoards(rows)), this::insertBoard, registry);
+            this.memoBatcher = new InsertBatcher<>("memo", Math.min(maxSize, MEMO_MERGE_ROWS), linger, queueCapacity,
+                    rows -> tx.execute(status -> insertMemos(rows)), this::insertMemo, registry);
+            log.info("INSERT 배치 사용 - 최대 행 수: {}, 대기: {}ms", maxSize, linger.toMillis());
+        } else {
+            this.boardBatcher = null;
+            this.memoBatcher = null;
+        }
+    }
+
+    // ==================== 게시글 ====================
+    public int board(String brCd, String title, String content, String file, String regId) {
+        BoardRow row = new BoardRow(brCd, title, content, file, regId);
+        return boardBatcher != null ? boardBatcher.insert(row) : insertBoard(row);
+    }
+
+    // rows 와 같은 순서의 BR_SEQ 목록
+    public List<Integer> boards(List<BoardRow> rows) {
+        return inChunks(rows, BOARD_MERGE_ROWS, this::insertBoards);
+    }
+
+    private Integer insertBoard(BoardRow row) {
+        Integer seq = jdbc.queryForObject(BOARD_INSERT_SQL, Integer.class,
+                row.brCd(), row.title(), row.content(), row.file(), row.regId());
+        return seq != null ? seq : 0;
+    }
+
+    private List<Integer> insertBoards(List<BoardRow> rows) {
+        List<Object> args = new ArrayList<>(rows.size() * 6);
+        for (int i = 0; i < rows.size(); i++) {
+            BoardRow row = rows.get(i);
+            args.addAll(Arrays.asList(i, row.brCd(), row.title(), row.content(), row.file(), row.regId()));
+        }
+        String sql = SqlStatements.named("board.insert.batch", "MERGE INTO TBOARD USING (VALUES " + placeholders(rows.size(), 6) + ")"
+                + " AS src (ORD, BR_CD, BR_TITLE, BR_CONTENT, BR_FILE, BR_REG_ID) ON 1 = 0"
+                + " WHEN NOT MATCHED THEN INSERT (BR_CD, BR_TITLE, BR_CONTENT, BR_FILE, BR_REG_ID)"
+                + " VALUES (src.BR_CD, src.BR_TITLE, src.BR_CONTENT, src.BR_FILE, src.BR_REG_ID)"
+                + " OUTPUT src.ORD, INSERTED.BR_SEQ;");
+        Integer[] seqs = new Integer[rows.size()];
+        merge(sql, args, rows.size(), rs -> seqs[rs.getInt(1)] = rs.getInt(2));
+        return Arrays.asList(seqs);
+    }
+
+    // ==================== 메모 ====================
+    // 저장된 메모 (FID, FCREATED_AT 은 DB 가 채운 값)
+    public Memo memo(String title, String content) {
+        MemoRow row = new MemoRow(title, content);
+        return memoBatcher != null ? memoBatcher.insert(row) : insertMemo(row);
+    }
+
+    // rows 와 같은 순서의 저장된 메모 목록
+    public List<Memo> memos(List<MemoRow> rows) {
+        return inChunks(rows, MEMO_MERGE_ROWS, this::insertMemos);
+    }
+
+    private Memo insertMemo(MemoRow row) {
+        return jdbc.queryForObject(MEMO_INSERT_SQL,
+                (rs, rowNum) -> new Memo(rs.getInt(1), row.title(), row.content(), rs.getTimestamp(2)),
+                row.title(), row.content());
+    }
+
+    private List<Memo> insertMemos(List<MemoRow> rows) {
+        List<Object> args = new ArrayList<>(rows.size() * 3);
+        for (int i = 0; i < rows.size(); i++) {
+            MemoRow row = rows.get(i);
+            args.addAll(Arrays.asList(i, row.title(), row.content()));
+        }
+        String sql = SqlStatements.named("memo.insert.batch", "MERGE INTO MEMO USING (VALUES " + placeholders(rows.size(), 3) + ")"
+                + " AS src (ORD, FTITLE, FCONTENT) ON 1 = 0"
+                + " WHEN NOT MATCHED THEN INSERT (FTITLE, FCONTENT) VALUES (src.FTITLE, src.FCONTENT)"
+                + " OUTPUT src.ORD, INSERTED.FID, INSERTED.FCREATED_AT;");
+        Memo[] memos = new Memo[rows.size()];
+        merge(sql, args, rows.size(), rs -> {
+            int ord = rs.getInt(1);
+            MemoRow row = rows.get(ord);
+            memos[ord] = new Memo(rs.getInt(2), row.title(), row.content(), rs.getTimestamp(3));
+        });
+        return Arrays.asList(memos);
+    }
+
+    // ==================== 공통 ====================
+    // OUTPUT 결과 한 행마다 handler 호출 (첫 컬럼은 원본 행 번호 ORD)
+    private void merge(String sql, List<Object> args, int count, RowCallbackHandler handler) {
+        int[] returned = {0};
+        jdbc.query(sql, (RowCallbackHandler) rs -> {
+            handler.processRow(rs);
+            returned[0]++;
+        }, args.toArray());
+        if (returned[0] != count) {
+            throw new IllegalStateException("배치 INSERT 결과 행 수 불일치: " + returned[0] + "/" + count);
+        }
+    }
+
+    // 파라미터 제한에 맞춰 나눠 넣고 결과를 순서대로 이어 붙인다
+    private static <T, R> List<R> inChunks(List<T> rows, int chunk, Function<List<T>, List<R>> insert) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        if (rows.size() <= chunk) {
+            return insert.apply(rows);
+        }
+        List<R> results = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += chunk) {
+            results.addAll(insert.apply(rows.subList(from, Math.min(from + chunk, rows.size()))));
+        }
+        return results;
+    }
+
+    // (?, ?, ?), (?, ?, ?) ...
+    private static String placeholders(int rows, int columns) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rows, row));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (boardBatcher != null) {
+            boardBatcher.shutdown();
+        }
+        if (memoBatcher != null) {
+            memoBatcher.shutdown();
+        }
+    }
+}
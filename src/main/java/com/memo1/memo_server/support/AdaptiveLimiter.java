@@ -0,0 +1,113 @@
+package com.memo1.memo_server.support;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 응답 시간으로 동시 실행 한도를 조절하는 리미터 (gradient 방식)
+// 최근 응답 시간(short)이 평소 응답 시간(long)보다 tolerance 배 이상 느려지면 그 비율만큼 한도를 줄이고,
+// 그렇지 않으면 sqrt(한도) 만큼 늘린다. 한도는 [minLimit, maxLimit] 안에서만 움직인다.
+// 한도의 절반도 쓰지 않는 동안에는 늘리지 않는다 (부하가 없을 때 한도만 커지는 것 방지).
+// 한도가 찼으면 queueTimeout 까지 기다렸다가 그래도 자리가 없으면 거절한다.
+// 대기는 ReentrantLock 조건으로 하므로 가상 스레드가 캐리어에 고정되지 않는다.
+public final class AdaptiveLimiter {
+
+    private static final double SHORT_WINDOW = 10;
+    private static final double LONG_WINDOW = 500;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long queueTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private double limit;
+    private int inflight;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, Duration queueTimeout) {
+        this.minLimit = Math.max(minLimit, 1);
+        this.maxLimit = Math.max(maxLimit, this.minLimit);
+        this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+    }
+
+    // 자리를 얻으면 true. 반드시 release 를 불러야 한다
+    public boolean acquire() {
+        lock.lock();
+        try {
+            long remaining = queueTimeoutNanos;
+            while (inflight >= (int) limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = available.awaitNanos(remaining);
+            }
+            inflight++;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // rttNanos: acquire 이후 처리에 걸린 시간
+    public void release(long rttNanos) {
+        lock.lock();
+        try {
+            int wasInflight = inflight--;
+            int before = (int) limit;
+            update(rttNanos, wasInflight);
+            if ((int) limit > before) {
+                available.signalAll();
+            } else {
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(long rttNanos, int wasInflight) {
+        if (longRtt == 0) {
+            shortRtt = longRtt = rttNanos;
+            return;
+        }
+        shortRtt += (rttNanos - shortRtt) / SHORT_WINDOW;
+        longRtt += (rttNanos - longRtt) / LONG_WINDOW;
+        // 느려졌다가 회복하면 long 이 높게 남아 한도가 과하게 늘어나므로 빠르게 따라 내려온다
+        if (longRtt > shortRtt * 2) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        if (gradient == 1.0 && wasInflight < limit / 2) {
+            return;
+        }
+        double next = gradient < 1.0 ? limit * gradient : limit + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + next * SMOOTHING));
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inflight() {
+        lock.lock();
+        try {
+            return inflight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
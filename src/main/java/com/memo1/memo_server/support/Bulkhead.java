@@ -0,0 +1,19 @@
+package com.memo1.memo_server.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 핸들러가 속한 동시 실행 구획 (search, list, detail, write, bulk, export)
+// 구획마다 동시 실행 수를 따로 제한해서 느린 검색이 몰려도 상세 조회가 커넥션을 기다리지 않게 한다 (BulkheadInterceptor)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    String value();
+
+    // true 면 인터셉터가 자리를 잡지 않고, 핸들러가 합쳐진 조회의 leader 에서만 Bulkheads.execute 로 잡는다
+    // (결과를 기다리기만 하는 요청이 자리를 차지하거나 한도 조절용 응답 시간에 섞이지 않게)
+    boolean coalesced() default false;
+}
@@ -0,0 +1,83 @@
+package com.memo1.memo_server.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+import java.util.Map;
+
+// @Bulkhead 가 붙은 핸들러를 구획별 AdaptiveLimiter 로 감싼다 (Bulkheads)
+// max-limit 을 커넥션 풀 크기보다 작게 잡으면 한 구획이 풀을 다 차지하지 못한다.
+// 자리를 얻지 못하면 핸들러를 실행하지 않고 503 + Retry-After 로 바로 응답한다.
+// @Bulkhead(coalesced = true) 핸들러는 감싸지 않는다 (핸들러가 DB 를 읽는 요청만 자리를 잡음)
+@Component
+@ConditionalOnProperty(name = "bulkhead.enabled", havingValue = "true")
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final Bulkheads bulkheads;
+    private final ObjectMapper objectMapper;
+
+    public BulkheadInterceptor(Bulkheads bulkheads, ObjectMapper objectMapper) {
+        this.bulkheads = bulkheads;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        Bulkhead bulkhead = method.getMethodAnnotation(Bulkhead.class);
+        if (bulkhead == null || bulkhead.coalesced()) {
+            return true;
+        }
+
+        Bulkheads.Permit permit = bulkheads.acquire(bulkhead.value(), request.getRequestURI());
+        if (permit == null) {
+            reject(response);
+            return false;
+        }
+        request.setAttribute(PERMIT, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    // 비동기 처리로 넘어간 경우 afterCompletion 이 불리지 않으므로 여기서 반납 (동기 구간만 제한)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT) instanceof Bulkheads.Permit permit) {
+            request.removeAttribute(PERMIT);
+            bulkheads.release(permit);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+            "success", false,
+            "message", Bulkheads.REJECTED_MESSAGE
+        ));
+    }
+}
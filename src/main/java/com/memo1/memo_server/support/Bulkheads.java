@@ -0,0 +1,132 @@
+package com.memo1.memo_server.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 구획별 AdaptiveLimiter 와 메트릭 (@Bulkhead)
+// 구획 설정은 bulkhead.<이름>.initial-limit / min-limit / max-limit / queue-timeout (없으면 bulkhead.default.*)
+// 보통은 BulkheadInterceptor 가 핸들러 전체를 감싸고, @Bulkhead(coalesced = true) 핸들러는
+// 합쳐진 조회(SingleFlight)의 leader 만 execute 로 자리를 잡는다.
+@Slf4j
+@Component
+public class Bulkheads {
+
+    public static final String REJECTED_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    // 자리를 얻지 못함. 합쳐진 조회를 기다리던 요청도 같은 예외를 받는다
+    public static class RejectedException extends RuntimeException {
+        public RejectedException(String name) {
+            super("동시 요청 한도 초과 - 구획: " + name);
+        }
+    }
+
+    public record Permit(AdaptiveLimiter limiter, long startNanos) {
+    }
+
+    private record Compartment(AdaptiveLimiter limiter, Counter rejected, Timer queued) {
+    }
+
+    private final Environment env;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final ConcurrentHashMap<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    public Bulkheads(Environment env, MeterRegistry registry,
+                     @Value("${bulkhead.enabled:false}") boolean enabled) {
+        this.env = env;
+        this.registry = registry;
+        this.enabled = enabled;
+    }
+
+    // 자리를 얻으면 Permit, 못 얻으면 null. Permit 은 반드시 release 로 돌려준다
+    public Permit acquire(String name, String uri) {
+        Compartment compartment = compartments.computeIfAbsent(name, this::create);
+        long start = System.nanoTime();
+        if (!compartment.limiter().acquire()) {
+            compartment.rejected().increment();
+            log.warn("동시 요청 한도 초과 - 구획: {}, 한도: {}, URI: {}", name, compartment.limiter().limit(), uri);
+            return null;
+        }
+        long acquired = System.nanoTime();
+        compartment.queued().record(acquired - start, TimeUnit.NANOSECONDS);
+        return new Permit(compartment.limiter(), acquired);
+    }
+
+    public void release(Permit permit) {
+        permit.limiter().release(System.nanoTime() - permit.startNanos());
+    }
+
+    // 자리를 잡고 action 을 실행. 자리가 없으면 RejectedException (bulkhead.enabled=false 면 바로 실행)
+    public <T> T execute(String name, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+        Permit permit = acquire(name, name);
+        if (permit == null) {
+            throw new RejectedException(name);
+        }
+        try {
+            return action.get();
+        } finally {
+            release(permit);
+        }
+    }
+
+    // 자리를 얻지 못한 요청의 응답 (BulkheadInterceptor 와 같은 본문)
+    public static ResponseEntity<Map<String, Object>> rejected() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of(
+                    "success", false,
+                    "message", REJECTED_MESSAGE
+                ));
+    }
+
+    private Compartment create(String name) {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(
+                property(name, "initial-limit", Integer.class, 4),
+                property(name, "min-limit", Integer.class, 1),
+                property(name, "max-limit", Integer.class, 8),
+                property(name, "queue-timeout", Duration.class, Duration.ofMillis(200)));
+
+        Gauge.builder("bulkhead.limit", limiter, AdaptiveLimiter::limit)
+                .description("현재 동시 실행 한도")
+                .tag("bulkhead", name)
+                .register(registry);
+        Gauge.builder("bulkhead.inflight", limiter, AdaptiveLimiter::inflight)
+                .description("실행 중인 요청 수")
+                .tag("bulkhead", name)
+                .register(registry);
+        Counter rejected = Counter.builder("bulkhead.rejected")
+                .description("한도 초과로 503 응답한 요청 수")
+                .tag("bulkhead", name)
+                .register(registry);
+        Timer queued = Timer.builder("bulkhead.queue")
+                .description("자리를 얻기까지 기다린 시간")
+                .tag("bulkhead", name)
+                .register(registry);
+
+        log.info("벌크헤드 생성 - 구획: {}, 한도: {}", name, limiter.limit());
+        return new Compartment(limiter, rejected, queued);
+    }
+
+    private <T> T property(String name, String key, Class<T> type, T defaultValue) {
+        T value = env.getProperty("bulkhead." + name + "." + key, type);
+        return value != null ? value : env.getProperty("bulkhead.default." + key, type, defaultValue);
+    }
+}
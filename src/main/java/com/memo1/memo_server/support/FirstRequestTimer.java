@@ -0,0 +1,52 @@
+package com.memo1.memo_server.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// JVM 시작부터 첫 /api 요청 응답 완료까지 걸린 시간 (time-to-first-request)
+// 기동 완료 시점은 스프링 부트가 application.ready.time 으로 이미 기록하므로, 여기서는 실제 첫 요청까지를 잰다.
+// 워밍업 요청(X-Warmup)과 actuator 요청은 세지 않는다. 로그 한 줄 + startup.first.request 게이지
+@Slf4j
+@Component
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+    private final AtomicLong firstRequestMillis = new AtomicLong(-1);
+
+    public FirstRequestTimer(MeterRegistry registry) {
+        TimeGauge.builder("startup.first.request", firstRequestMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("JVM 시작부터 첫 요청 응답까지 걸린 시간 (-1 이면 아직 요청 없음)")
+                .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return firstRequestMillis.get() >= 0
+                || request.getHeader(StartupWarmup.HEADER) != null
+                || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsed = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+            if (firstRequestMillis.compareAndSet(-1, elapsed)) {
+                log.info("첫 요청 처리 완료 - JVM 시작 후 {}ms ({} {})", elapsed, request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+}
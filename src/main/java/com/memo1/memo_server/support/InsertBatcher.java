@@ -0,0 +1,204 @@
+package com.memo1.memo_server.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 동시에 들어온 INSERT 요청을 모아 한 번에 넣는 write-behind 배처
+// 첫 요청이 들어온 뒤 linger 동안, 또는 maxSize 개가 찰 때까지 모아서 batchInsert 로 넣고
+// 각 호출자에게 자기 행의 결과(생성된 ID 등)를 돌려준다. 큐가 가득 차면 호출자 스레드에서 바로 단건으로 넣는다.
+// 배치가 실패하면 행마다 단건으로 다시 넣으므로, batchInsert 는 실패 시 아무 행도 남기지 않아야 한다 (트랜잭션 안에서 실행).
+// 종료(shutdown)나 인터럽트 때도 이미 받은 요청은 마저 넣고 끝나므로 호출자가 영원히 기다리지 않는다.
+@Slf4j
+public final class InsertBatcher<T, R> {
+
+    private final String name;
+    private final int maxSize;
+    private final long lingerNanos;
+    private final BlockingQueue<Pending<T, R>> queue;
+    private final Function<List<T>, List<R>> batchInsert;
+    private final Function<T, R> singleInsert;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSizes;
+    private final Timer flushTimer;
+    private final Counter overflow;
+    private final Counter retried;
+
+    private record Pending<T, R>(T row, CompletableFuture<R> result) {
+    }
+
+    // batchInsert 는 rows 와 같은 순서의 결과 목록을 반환해야 하고, 예외를 던질 때는 아무 행도 커밋하지 않아야 한다
+    public InsertBatcher(String name, int maxSize, Duration linger, int queueCapacity,
+                         Function<List<T>, List<R>> batchInsert, Function<T, R> singleInsert,
+                         MeterRegistry registry) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.lingerNanos = linger.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchInsert = batchInsert;
+        this.singleInsert = singleInsert;
+        this.batchSizes = DistributionSummary.builder("write.batch.size")
+                .description("한 번에 넣은 행 수")
+                .tag("table", name)
+                .register(registry);
+        this.flushTimer = Timer.builder("write.batch.flush")
+                .description("배치 INSERT 소요 시간")
+                .tag("table", name)
+                .register(registry);
+        this.overflow = Counter.builder("write.batch.overflow")
+                .description("큐가 가득 차서 단건으로 넣은 횟수")
+                .tag("table", name)
+                .register(registry);
+        this.retried = Counter.builder("write.batch.retried")
+                .description("배치 실패 후 단건으로 다시 넣은 행 수")
+                .tag("table", name)
+                .register(registry);
+        this.worker = new Thread(this::run, name + "-insert-batcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // 행을 넣고 결과를 반환. 넣기 실패 시 원래 예외를 그대로 던진다
+    public R insert(T row) {
+        Pending<T, R> pending = new Pending<>(row, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            overflow.increment();
+            return singleInsert.apply(row);
+        }
+        // 워커가 남은 요청을 다 넣고 끝난 뒤에 큐에 들어갔을 수 있다. 큐에서 도로 꺼냈으면 직접 넣는다
+        // (꺼내지 못했으면 워커가 이미 가져가서 처리 중)
+        if (!running && queue.remove(pending)) {
+            overflow.increment();
+            return singleInsert.apply(row);
+        }
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    // 남은 요청을 모두 넣은 뒤 종료. 제한 시간 안에 끝나지 않으면 아직 큐에 남은 요청은 실패 처리
+    public void shutdown() {
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            List<Pending<T, R>> left = new ArrayList<>();
+            queue.drainTo(left);
+            log.warn("{} 배치 INSERT 워커 종료 대기 시간 초과 - 실패 처리한 요청 수: {}", name, left.size());
+            IllegalStateException e = new IllegalStateException(name + " 배치 INSERT 종료 중");
+            left.forEach(p -> p.result().completeExceptionally(e));
+        }
+    }
+
+    private void run() {
+        List<Pending<T, R>> batch = new ArrayList<>(maxSize);
+        boolean interrupted = false;
+        while (running) {
+            try {
+                Pending<T, R> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    collect(batch);
+                }
+            } catch (InterruptedException e) {
+                // 이미 모은 행은 버리지 않고 아래에서 넣은 뒤 종료 (인터럽트 상태는 끝날 때 되돌린다)
+                interrupted = true;
+                running = false;
+            }
+            flushSafely(batch);
+        }
+        // 종료: 큐에 남은 요청을 기다리지 않고 모두 넣는다
+        queue.drainTo(batch, maxSize);
+        while (!batch.isEmpty()) {
+            flushSafely(batch);
+            queue.drainTo(batch, maxSize);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // linger 동안 또는 maxSize 개가 찰 때까지 더 모은다
+    private void collect(List<Pending<T, R>> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxSize) {
+            queue.drainTo(batch, maxSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxSize || remaining <= 0) {
+                break;
+            }
+            Pending<T, R> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flushSafely(List<Pending<T, R>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flush(batch);
+        } catch (Throwable t) {
+            // 워커가 죽으면 대기 중인 호출자가 영원히 기다리므로 여기서 모두 실패 처리
+            log.error("{} 배치 INSERT 워커 오류: {}", name, t.getMessage(), t);
+            batch.forEach(p -> p.result().completeExceptionally(t));
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void flush(List<Pending<T, R>> batch) {
+        batchSizes.record(batch.size());
+        List<T> rows = new ArrayList<>(batch.size());
+        batch.forEach(p -> rows.add(p.row()));
+
+        List<R> results;
+        try {
+            results = flushTimer.record(() -> batchInsert.apply(rows));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            // 한 행 때문에 전체가 실패했을 수 있으므로 단건으로 다시 넣는다 (실패한 배치는 롤백되어 남은 행이 없음)
+            log.warn("{} 배치 INSERT 실패, 단건으로 재시도 - 행 수: {}, 원인: {}", name, batch.size(), e.getMessage());
+            retried.increment(batch.size());
+            for (Pending<T, R> p : batch) {
+                try {
+                    p.result().complete(singleInsert.apply(p.row()));
+                } catch (RuntimeException single) {
+                    p.result().completeExceptionally(single);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.memo1.memo_server.support;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+// 스트리밍 JSON 에서 날짜를 쓸 때 ObjectMapper 를 거치지 않기 위한 도우미
+// Spring Boot 기본 Jackson 설정(StdDateFormat, UTC, WRITE_DATES_AS_TIMESTAMPS=false)과 같은 형식으로 쓴다.
+public final class JsonDates {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final int MIN_FAST_YEAR = 1600;
+    private static final String UTC_SUFFIX = "+00:00";
+
+    private JsonDates() {
+    }
+
+    public static void write(JsonGenerator g, Timestamp value) throws IOException {
+        if (value == null) {
+            g.writeNull();
+            return;
+        }
+        long millis = value.getTime();
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(millis, MILLIS_PER_DAY));
+        if (date.getYear() < MIN_FAST_YEAR || date.getYear() > 9999) {
+            // 그레고리력 전환 이전 등 특이값은 ObjectMapper 에 맡긴다
+            g.writeObject(value);
+            return;
+        }
+
+        // yyyy-MM-ddTHH:mm:ss.SSS+00:00 을 문자열 객체 없이 직접 채운다
+        int msOfDay = (int) Math.floorMod(millis, MILLIS_PER_DAY);
+        char[] buf = new char[29];
+        digits(buf, 0, date.getYear(), 4);
+        buf[4] = '-';
+        digits(buf, 5, date.getMonthValue(), 2);
+        buf[7] = '-';
+        digits(buf, 8, date.getDayOfMonth(), 2);
+        buf[10] = 'T';
+        digits(buf, 11, msOfDay / 3_600_000, 2);
+        buf[13] = ':';
+        digits(buf, 14, msOfDay / 60_000 % 60, 2);
+        buf[16] = ':';
+        digits(buf, 17, msOfDay / 1000 % 60, 2);
+        buf[19] = '.';
+        digits(buf, 20, msOfDay % 1000, 3);
+        UTC_SUFFIX.getChars(0, UTC_SUFFIX.length(), buf, 23);
+        g.writeString(buf, 0, buf.length);
+    }
+
+    private static void digits(char[] buf, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
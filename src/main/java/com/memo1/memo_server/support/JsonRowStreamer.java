@@ -0,0 +1,79 @@
+package com.memo1.memo_server.support;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// List<Map> 을 만들지 않고 ResultSet 을 응답 스트림에 바로 JSON 으로 쓴다
+@Component
+@RequiredArgsConstructor
+public class JsonRowStreamer {
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbc;
+
+    @FunctionalInterface
+    public interface RowWriter {
+        void write(JsonGenerator g, ResultSet rs) throws IOException, SQLException;
+    }
+
+    @FunctionalInterface
+    public interface Body {
+        void write(JsonGenerator g) throws IOException;
+    }
+
+    // 쓴 행 수, limit 을 넘는 행이 더 있었는지, 마지막으로 쓴 행의 첫 컬럼(키) 값
+    public record Rows(int count, boolean hasMore, Integer lastKey) {
+    }
+
+    // { ...body... } 형태의 JSON 응답을 쓴다. 응답이 커밋되기 전에 실패하면 버퍼를 비우고 예외를 다시 던진다
+    public void write(HttpServletResponse response, Body body) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        try (JsonGenerator g = objectMapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+            g.writeStartObject();
+            body.write(g);
+            g.writeEndObject();
+        } catch (IOException | RuntimeException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+    }
+
+    // field 이름의 배열로 최대 limit 행을 쓴다 (limit <= 0 이면 제한 없음)
+    public Rows writeRows(JsonGenerator g, String field, int limit, RowWriter rowWriter,
+                          String sql, Object... args) throws IOException {
+        g.writeArrayFieldStart(field);
+        Rows rows = jdbc.query(sql, rs -> {
+            int count = 0;
+            Integer lastKey = null;
+            try {
+                while (rs.next()) {
+                    if (limit > 0 && count == limit) {
+                        return new Rows(count, true, lastKey);
+                    }
+                    rowWriter.write(g, rs);
+                    lastKey = rs.getInt(1);
+                    count++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Rows(count, false, lastKey);
+        }, args);
+        g.writeEndArray();
+        return rows;
+    }
+}
@@ -0,0 +1,72 @@
+package com.memo1.memo_server.support;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+// /rx/api 조회용 R2DBC 커넥션 풀
+// ConnectionFactory 는 일부러 빈으로 등록하지 않는다. 등록하면 R2DBC 트랜잭션 매니저가 자동 설정되어
+// DataSourceTransactionManager 가 만들어지지 않고 기존 JDBC @Transactional 이 동작하지 않는다.
+// (R2dbcAutoConfiguration 은 application.yml 에서 제외)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rx.enabled", havingValue = "true")
+public class ReactiveDb {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    public ReactiveDb(MeterRegistry registry,
+                      @Value("${rx.r2dbc.url}") String url,
+                      @Value("${rx.r2dbc.username:${spring.datasource.username:}}") String username,
+                      @Value("${rx.r2dbc.password:${spring.datasource.password:}}") String password,
+                      @Value("${rx.r2dbc.pool.initial-size:2}") int initialSize,
+                      @Value("${rx.r2dbc.pool.max-size:20}") int maxSize,
+                      @Value("${rx.r2dbc.pool.max-acquire-time:5s}") Duration maxAcquireTime) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("rx")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+        this.client = DatabaseClient.create(pool);
+
+        pool.getMetrics().ifPresent(metrics -> {
+            gauge(registry, "r2dbc.pool.acquired", metrics, PoolMetrics::acquiredSize);
+            gauge(registry, "r2dbc.pool.idle", metrics, PoolMetrics::idleSize);
+            gauge(registry, "r2dbc.pool.pending", metrics, PoolMetrics::pendingAcquireSize);
+        });
+        log.info("R2DBC 커넥션 풀 생성 - 최대: {}", maxSize);
+    }
+
+    private static void gauge(MeterRegistry registry, String name, PoolMetrics metrics, ToDoubleFunction<PoolMetrics> value) {
+        Gauge.builder(name, metrics, value).tag("pool", "rx").register(registry);
+    }
+
+    public DatabaseClient client() {
+        return client;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,201 @@
+package com.memo1.memo_server.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+// 읽기 복제본 풀 목록과 상태
+// check-interval 마다 복제본마다 커넥션을 얻어 보고, heartbeat-table 이 있으면 복제 지연도 잰다.
+// 지연 측정: 주 DB 의 하트비트 테이블에 매번 현재 시각(ms)을 쓰고, 복제본에서 읽은 값보다 뒤에 쓴 하트비트 중
+// 가장 오래된 것이 쓰인 뒤로 지난 시간을 지연으로 본다 (모두 받았으면 0). 측정 단위가 check-interval 이므로
+// check-interval 은 max-lag 이하여야 한다 (아니면 기동 실패).
+// 지연이 max-lag 를 넘거나 확인에 실패한 복제본은 다음 확인에서 회복될 때까지 읽기에서 빠진다.
+// 이 인스턴스에서 마지막 변경이 커밋된 뒤 max-lag + check-interval 이 지나기 전에는 복제본을 쓰지 않는다.
+// 복제본에서 읽은 결과가 새 ETag 버전으로 공유 캐시(DetailCache, SingleFlight, HotPageCache)에 들어가거나
+// 304 기준이 되어도, 그 버전까지의 변경은 복제본이 이미 받은 상태가 된다.
+// 하트비트 테이블이 없으면 연결 여부만 본다 (복제 없이 DB 두 개로 시험할 때).
+//   CREATE TABLE TREPLICA_HEARTBEAT (HB_ID INT PRIMARY KEY, HB_TIME BIGINT NOT NULL)
+@Slf4j
+public class ReadReplicas implements AutoCloseable {
+
+    private static final Pattern TABLE = Pattern.compile("[A-Za-z0-9_.\\[\\]]+");
+    private static final int MAX_BEATS = 64;
+
+    private static final class Replica {
+        final HikariDataSource pool;
+        volatile boolean healthy;
+        volatile long lagMillis = -1;
+
+        Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+
+    private final List<Replica> replicas;
+    private final ObjectProvider<JdbcTemplate> primaryJdbc;
+    private final String heartbeatTable;
+    private final long maxLagMillis;
+    private final long settleMillis;
+    private final LongSupplier lastChangedAt;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ArrayDeque<Long> beats = new ArrayDeque<>();
+    private final Counter fallbacks;
+    private final Counter settling;
+
+    // primaryJdbc: 요청 밖 스레드에서 쓰므로 라우팅 DataSource 를 거쳐도 주 DB 로 간다
+    // lastChangedAt: 이 인스턴스에서 마지막으로 변경이 커밋된 시각(ms, ChangeVersions)
+    public ReadReplicas(List<HikariDataSource> pools,
+                        ObjectProvider<JdbcTemplate> primaryJdbc,
+                        String heartbeatTable,
+                        Duration maxLag,
+                        Duration checkInterval,
+                        LongSupplier lastChangedAt,
+                        MeterRegistry registry) {
+        if (heartbeatTable != null && !heartbeatTable.isBlank() && !TABLE.matcher(heartbeatTable).matches()) {
+            throw new IllegalArgumentException("잘못된 하트비트 테이블 이름: " + heartbeatTable);
+        }
+        if (checkInterval.compareTo(maxLag) > 0) {
+            throw new IllegalArgumentException("check-interval(" + checkInterval + ")이 max-lag(" + maxLag
+                    + ")보다 길면 그보다 짧은 지연을 잴 수 없습니다.");
+        }
+        this.replicas = pools.stream().map(Replica::new).toList();
+        this.primaryJdbc = primaryJdbc;
+        this.heartbeatTable = heartbeatTable == null || heartbeatTable.isBlank() ? null : heartbeatTable;
+        this.maxLagMillis = maxLag.toMillis();
+        this.settleMillis = maxLag.plus(checkInterval).toMillis();
+        this.lastChangedAt = lastChangedAt;
+
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("쓸 수 있는 복제본이 없어 주 DB 에서 읽은 커넥션 수")
+                .register(registry);
+        this.settling = Counter.builder("datasource.replica.settling")
+                .description("최근 변경이 복제본에 반영되기 전이라 주 DB 에서 읽은 커넥션 수")
+                .register(registry);
+        for (Replica replica : replicas) {
+            String name = replica.pool.getPoolName();
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("복제본을 읽기에 쓰는 중이면 1")
+                    .tag("replica", name)
+                    .register(registry);
+            TimeGauge.builder("datasource.replica.lag", replica, TimeUnit.MILLISECONDS, r -> r.lagMillis)
+                    .description("마지막 확인 때의 복제 지연 (-1 이면 확인 실패)")
+                    .tag("replica", name)
+                    .register(registry);
+        }
+        log.info("읽기 복제본 {}개 - 하트비트: {}, 최대 지연: {}ms, 변경 후 주 DB 사용: {}ms",
+                replicas.size(), this.heartbeatTable != null ? this.heartbeatTable : "없음", maxLagMillis, settleMillis);
+    }
+
+    // ==================== 커넥션 ====================
+    // 건강한 복제본을 돌아가며 사용. 모두 안 되면 null (호출한 쪽이 주 DB 사용)
+    // 조회 쿼리 직전(ETag 버전을 읽은 뒤)에 불리므로, 그 버전의 변경이 아직 복제본에 없을 수 있으면 주 DB 로 보낸다
+    public Connection connection() {
+        if (System.currentTimeMillis() - lastChangedAt.getAsLong() <= settleMillis) {
+            settling.increment();
+            return null;
+        }
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.pool.getConnection();
+            } catch (SQLException e) {
+                replica.healthy = false;
+                log.warn("복제본 커넥션 실패, 다음 확인까지 제외 - {}: {}", replica.pool.getPoolName(), e.getMessage());
+            }
+        }
+        fallbacks.increment();
+        return null;
+    }
+
+    // ==================== 상태 확인 ====================
+    @Scheduled(fixedDelayString = "${datasource.routing.check-interval:PT1S}")
+    public void check() {
+        long now = System.currentTimeMillis();
+        for (Replica replica : replicas) {
+            long lag;
+            try (Connection connection = replica.pool.getConnection()) {
+                lag = heartbeatTable == null ? 0 : lag(connection, now);
+            } catch (Exception e) {
+                log.debug("복제본 확인 실패 - {}: {}", replica.pool.getPoolName(), e.getMessage());
+                lag = -1;
+            }
+            boolean healthy = lag >= 0 && lag <= maxLagMillis;
+            replica.lagMillis = lag;
+            if (replica.healthy != healthy) {
+                if (healthy) {
+                    log.info("복제본 읽기 사용 - {}, 지연: {}ms", replica.pool.getPoolName(), lag);
+                } else {
+                    log.warn("복제본 읽기 제외 (주 DB 사용) - {}, 지연: {}ms", replica.pool.getPoolName(), lag);
+                }
+            }
+            replica.healthy = healthy;
+        }
+        if (heartbeatTable != null) {
+            beat(now);
+        }
+    }
+
+    // 복제본이 아직 받지 못한 하트비트 중 가장 오래된 것이 쓰인 뒤로 지난 시간. 아직 쓴 하트비트가 없으면 -1 (판단 보류)
+    private long lag(Connection connection, long now) throws SQLException {
+        if (beats.isEmpty()) {
+            return -1;
+        }
+        long replicated = Long.MIN_VALUE;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT HB_TIME FROM " + heartbeatTable + " WHERE HB_ID = 1");
+             ResultSet rs = statement.executeQuery()) {
+            if (rs.next()) {
+                replicated = rs.getLong(1);
+            }
+        }
+        for (long beat : beats) {
+            if (beat > replicated) {
+                return now - beat;
+            }
+        }
+        return 0;
+    }
+
+    private void beat(long now) {
+        try {
+            JdbcTemplate jdbc = primaryJdbc.getObject();
+            if (jdbc.update("UPDATE " + heartbeatTable + " SET HB_TIME = ? WHERE HB_ID = 1", now) == 0) {
+                jdbc.update("INSERT INTO " + heartbeatTable + " (HB_ID, HB_TIME) VALUES (1, ?)", now);
+            }
+            beats.addLast(now);
+            if (beats.size() > MAX_BEATS) {
+                beats.removeFirst();
+            }
+        } catch (Exception e) {
+            log.warn("하트비트 기록 실패 - {}: {}", heartbeatTable, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+}
@@ -0,0 +1,103 @@
+package com.memo1.memo_server.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+// @GetMapping 핸들러의 조회는 읽기 복제본으로, 나머지 핸들러는 주 DB 로 보낸다 (RoutingDataSource)
+// 쓰기 핸들러를 호출한 클라이언트에는 쿠키를 붙여서 sticky-window 동안은 조회도 주 DB 에서 하게 한다.
+// 복제가 늦어도 자기가 방금 쓴 글/메모는 바로 보인다 (read-your-writes).
+// 이 인스턴스에 커밋된 변경은 쿠키와 관계없이 잠시 모든 조회가 주 DB 로 가므로 (ReadReplicas),
+// 쿠키는 다른 인스턴스에서 쓴 클라이언트를 위한 것이다.
+@Component
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadRoutingInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String COOKIE = "db-primary-until";
+
+    private final Duration stickyWindow;
+    private final Counter replica;
+    private final Counter sticky;
+    private final Counter primary;
+
+    public ReadRoutingInterceptor(MeterRegistry registry,
+                                  @Value("${datasource.routing.sticky-window:5s}") Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+        this.replica = counter(registry, "replica");
+        this.sticky = counter(registry, "sticky");
+        this.primary = counter(registry, "primary");
+    }
+
+    private static Counter counter(MeterRegistry registry, String route) {
+        return Counter.builder("datasource.routing.requests")
+                .description("DB 라우팅 요청 수 (sticky: 최근 쓰기로 주 DB 에서 조회)")
+                .tag("route", route)
+                .register(registry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        if (!method.hasMethodAnnotation(GetMapping.class)) {
+            primary.increment();
+            long until = System.currentTimeMillis() + stickyWindow.toMillis();
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(until))
+                    .path("/")
+                    .httpOnly(true)
+                    .maxAge(stickyWindow)
+                    .build()
+                    .toString());
+            return true;
+        }
+        if (recentlyWrote(request)) {
+            sticky.increment();
+            return true;
+        }
+        replica.increment();
+        RoutingDataSource.routeReads();
+        return true;
+    }
+
+    private boolean recentlyWrote(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RoutingDataSource.clear();
+    }
+
+    // 비동기 처리로 넘어가면 요청 스레드는 반납되므로 여기서 지운다 (비동기 스레드는 주 DB)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RoutingDataSource.clear();
+    }
+}
@@ -0,0 +1,85 @@
+package com.memo1.memo_server.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+// 주 DB / 읽기 복제본 라우팅 DataSource (datasource.routing.enabled)
+// ReadRoutingInterceptor 가 읽기로 표시한 요청 스레드만 ReadReplicas 에서 커넥션을 얻고,
+// 나머지(쓰기 요청, 스케줄 작업, INSERT 배치 워커 등 요청 밖 스레드)는 항상 주 DB 를 쓴다.
+// 복제본이 모두 내려갔거나 지연 중이거나 커넥션을 못 얻으면 주 DB 로 넘어간다.
+// 최근 변경이 복제본에 반영됐다고 볼 수 있을 때까지도 주 DB 를 쓴다 (ReadReplicas.connection)
+// 트랜잭션은 시작할 때 얻은 커넥션을 끝까지 쓰므로 트랜잭션 중간에 대상이 바뀌지 않는다.
+// unwrap(HikariDataSource) 는 주 DB 풀을 돌려준다 (커넥션 풀 메트릭, 워밍업)
+public class RoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> READ = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final ReadReplicas replicas;
+
+    public RoutingDataSource(HikariDataSource primary, ReadReplicas replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    // 현재 스레드의 조회를 읽기 복제본으로 보낸다 (요청이 끝나면 clear)
+    public static void routeReads() {
+        READ.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        READ.remove();
+    }
+
+    // 복제본으로 가던 스레드라도 action 동안은 주 DB 에서 읽는다 (다음 변경까지 남는 결과를 만들 때)
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean read = READ.get();
+        READ.remove();
+        try {
+            return action.get();
+        } finally {
+            if (read != null) {
+                READ.set(read);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (READ.get() != null) {
+            Connection connection = replicas.connection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+    }
+}
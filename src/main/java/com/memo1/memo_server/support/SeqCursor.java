@@ -0,0 +1,57 @@
+package com.memo1.memo_server.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 키셋 페이지네이션용 커서 (마지막으로 본 BR_SEQ 를 불투명 문자열로 인코딩)
+public final class SeqCursor {
+
+    private static final String PREFIX = "s1:";
+
+    private SeqCursor() {
+    }
+
+    public static String encode(int lastSeq) {
+        byte[] raw = (PREFIX + lastSeq).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    // 잘못된 커서는 InvalidCursorException (seq 는 0 이상의 int 십진수만 허용. 부호나 범위를 넘는 값도 거절)
+    public static int decode(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+        if (!raw.startsWith(PREFIX)) {
+            throw new InvalidCursorException(cursor);
+        }
+        String seq = raw.substring(PREFIX.length());
+        if (seq.isEmpty() || !seq.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            throw new InvalidCursorException(cursor);
+        }
+        try {
+            return Integer.parseInt(seq);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    // afterSeq 가 직접 넘어오면 우선, 없으면 cursor 해석, 둘 다 없으면 null
+    public static Integer resolve(Integer afterSeq, String cursor) {
+        if (afterSeq != null) {
+            return afterSeq;
+        }
+        if (cursor == null) {
+            return null;
+        }
+        return cursor.isEmpty() ? Integer.MAX_VALUE : decode(cursor);
+    }
+
+    public static class InvalidCursorException extends IllegalArgumentException {
+        public InvalidCursorException(String cursor) {
+            super("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.memo1.memo_server.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 같은 키로 동시에 들어온 조회를 하나로 합친다 (single-flight)
+// 처음 들어온 요청만 loader 를 실행하고, 실행 중에 들어온 같은 키의 요청은 그 결과(또는 예외)를 같이 받는다.
+// 결과는 실행이 끝나면 바로 버리므로 캐시가 아니다. 키에 ChangeVersions 버전을 넣어서
+// 변경 커밋 이후의 요청이 커밋 이전에 시작한 조회에 합쳐지지 않게 한다.
+// 실행 중인 키가 max-keys 개를 넘으면 합치지 않고 각자 실행한다.
+@Component
+public class SingleFlight {
+
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final int maxKeys;
+    private final ConcurrentHashMap<List<?>, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Map<String, Counter>> counters = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry registry,
+                        @Value("${singleflight.enabled:true}") boolean enabled,
+                        @Value("${singleflight.max-keys:1000}") int maxKeys) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.maxKeys = maxKeys;
+        Gauge.builder("singleflight.inflight", inflight, Map::size)
+                .description("실행 중인 합쳐진 조회 수")
+                .register(registry);
+    }
+
+    // name 은 메트릭 태그로도 쓰이므로 고정된 값만 넘긴다
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String name, List<?> key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        if (inflight.size() >= maxKeys) {
+            count(name, "bypassed");
+            return loader.get();
+        }
+
+        List<?> flightKey = List.of(name, key);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inflight.putIfAbsent(flightKey, created);
+        if (existing != null) {
+            count(name, "shared");
+            try {
+                return (V) existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        count(name, "leader");
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+            throw t;
+        } finally {
+            inflight.remove(flightKey, created);
+        }
+    }
+
+    // outcome: leader (직접 실행), shared (다른 요청의 결과를 받음), bypassed (키가 많아 합치지 않음)
+    private void count(String name, String outcome) {
+        counters.computeIfAbsent(name, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(outcome, o -> Counter.builder("singleflight.requests")
+                        .description("합치기 대상 조회 요청 수")
+                        .tag("name", name)
+                        .tag("outcome", o)
+                        .register(registry))
+                .increment();
+    }
+}
@@ -0,0 +1,24 @@
+package com.memo1.memo_server.support;
+
+// LIKE 부분 일치 검색어 (검색어 안의 %, _, [ 를 와일드카드가 아닌 글자로 찾는다)
+// 쿼리 쪽은 LIKE ? ESCAPE '\' 로 써야 한다. 역색인(InvertedIndex)과 같은 결과를 내기 위함
+public final class SqlLike {
+
+    public static final char ESCAPE = '\\';
+
+    private SqlLike() {
+    }
+
+    // '%' + 이스케이프한 keyword + '%'
+    public static String contains(String keyword) {
+        StringBuilder sb = new StringBuilder(keyword.length() + 8).append('%');
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c == '%' || c == '_' || c == '[' || c == ESCAPE) {
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.append('%').toString();
+    }
+}
@@ -0,0 +1,110 @@
+package com.memo1.memo_server.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// SQL 문장별 실행 시간 / 처리 행 수 / 느린 쿼리 수
+// IN (?, ?, ...) 나 VALUES (...), (...) 처럼 길이만 다른 문장은 하나로 묶고,
+// 서로 다른 문장이 maxStatements 개를 넘으면 나머지는 "other" 로 집계한다.
+// 느린 쿼리는 문장마다 sampleInterval 에 한 번만 로그를 남긴다.
+// SqlStatements.named() 로 이름을 붙인 문장은 statement 태그에 그 이름이 들어간다 (없으면 unnamed).
+// prepare 횟수는 여기서 세지 않는다 (prepareStatement 호출은 실행마다 있고, 실제 재사용은 드라이버 문장 풀과
+// 서버 플랜 캐시에서 일어남). 문장별 컴파일/재사용 횟수는 /actuator/sqlplans 의 플랜 캐시 값을 본다.
+@Slf4j
+public class SqlMetrics {
+
+    private static final Pattern PARAM_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\.\\.\\.\\)(?:\\s*,\\s*\\(\\?\\.\\.\\.\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String OTHER = "other";
+    private static final String UNNAMED = "unnamed";
+
+    private final MeterRegistry registry;
+    private final long slowNanos;
+    private final long sampleIntervalNanos;
+    private final int maxStatements;
+    // 정규화된 문장 → 미터, 원문 → 미터 (원문 쪽은 매번 정규화하지 않기 위한 캐시)
+    private final ConcurrentHashMap<String, Meters> byStatement = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Meters> bySql = new ConcurrentHashMap<>();
+
+    public SqlMetrics(MeterRegistry registry, Duration slowThreshold, Duration sampleInterval, int maxStatements) {
+        this.registry = registry;
+        this.slowNanos = slowThreshold.toNanos();
+        this.sampleIntervalNanos = sampleInterval.toNanos();
+        this.maxStatements = maxStatements;
+    }
+
+    public final class Meters {
+        private final String sql;
+        private final Timer timer;
+        private final DistributionSummary rows;
+        private final Counter slow;
+        private final AtomicLong lastLogged = new AtomicLong(System.nanoTime() - sampleIntervalNanos);
+
+        private Meters(String normalized) {
+            String name = SqlStatements.nameOf(normalized);
+            this.sql = SqlStatements.stripName(normalized);
+            Tags tags = Tags.of("sql", sql, "statement", name != null ? name : UNNAMED);
+            this.timer = Timer.builder("jdbc.statement")
+                    .description("SQL 실행 시간")
+                    .tags(tags)
+                    .register(registry);
+            this.rows = DistributionSummary.builder("jdbc.statement.rows")
+                    .description("SQL 한 번에 읽거나 변경한 행 수")
+                    .tags(tags)
+                    .register(registry);
+            this.slow = Counter.builder("jdbc.statement.slow")
+                    .description("임계값을 넘긴 SQL 실행 수")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        public void recordExecution(long nanos) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            if (nanos >= slowNanos) {
+                slow.increment();
+                long now = System.nanoTime();
+                long last = lastLogged.get();
+                if (now - last >= sampleIntervalNanos && lastLogged.compareAndSet(last, now)) {
+                    log.warn("느린 SQL - {}ms: {}", TimeUnit.NANOSECONDS.toMillis(nanos), sql);
+                }
+            }
+        }
+
+        public void recordRows(long count) {
+            rows.record(count);
+        }
+    }
+
+    public Meters forSql(String sql) {
+        Meters m = bySql.get(sql);
+        if (m != null) {
+            return m;
+        }
+        String normalized = normalize(sql);
+        if (byStatement.size() >= maxStatements && !byStatement.containsKey(normalized)) {
+            normalized = OTHER;
+        }
+        m = byStatement.computeIfAbsent(normalized, Meters::new);
+        if (bySql.size() < maxStatements * 4) {
+            bySql.putIfAbsent(sql, m);
+        }
+        return m;
+    }
+
+    static String normalize(String sql) {
+        String s = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        s = PARAM_LIST.matcher(s).replaceAll("(?...)");
+        return ROW_LIST.matcher(s).replaceAll("(?...), ...");
+    }
+}
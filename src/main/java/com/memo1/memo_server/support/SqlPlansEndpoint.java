@@ -0,0 +1,77 @@
+package com.memo1.memo_server.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// /actuator/sqlplans : SqlStatements 로 이름 붙인 문장별 SQL Server 플랜 캐시 현황
+// objtype 이 Prepared 면 파라미터화된 문장으로 플랜을 재사용하고 있는 것이고, Adhoc 이 여러 개면 문장 텍스트가 매번 달라지는 것이다.
+// plans 는 캐시된 플랜 수, generation 은 재컴파일 횟수 (plan_generation_num 최댓값).
+// 조회하려면 DB 계정에 VIEW SERVER STATE 권한이 필요하다.
+// SQL 텍스트가 드러나므로 기본은 꺼져 있다 (management.endpoint.sqlplans.enabled). 켜도 관리 포트로만 열린다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "sqlplans")
+public class SqlPlansEndpoint {
+
+    // 문장 텍스트의 첫 /* 이름 */ 주석으로 묶는다 (Prepared 문장은 앞에 (@P0 int, ...) 선언이 붙어 있음)
+    private static final String PLAN_SQL =
+            "SELECT SUBSTRING(t.text, s.S + 3, e.E - s.S - 3) AS NAME, p.objtype AS OBJTYPE, " +
+            "COUNT(DISTINCT qs.plan_handle) AS PLANS, SUM(qs.execution_count) AS EXECUTIONS, " +
+            "MAX(qs.plan_generation_num) AS GENERATION, SUM(qs.total_worker_time) / 1000 AS CPU_MS " +
+            "FROM sys.dm_exec_query_stats qs " +
+            "JOIN sys.dm_exec_cached_plans p ON p.plan_handle = qs.plan_handle " +
+            "CROSS APPLY sys.dm_exec_sql_text(qs.sql_handle) t " +
+            "CROSS APPLY (SELECT CHARINDEX('/* ', t.text) AS S) s " +
+            "CROSS APPLY (SELECT CHARINDEX(' */', t.text, s.S + 3) AS E) e " +
+            "WHERE t.dbid = DB_ID() AND s.S > 0 AND e.E > s.S " +
+            "GROUP BY SUBSTRING(t.text, s.S + 3, e.E - s.S - 3), p.objtype";
+
+    private final JdbcTemplate jdbc;
+
+    @ReadOperation
+    public Map<String, Object> plans() {
+        Set<String> names = SqlStatements.names();
+        Map<String, Object> response = new HashMap<>();
+        try {
+            Map<String, List<Map<String, Object>>> statements = new TreeMap<>();
+            jdbc.query(PLAN_SQL, rs -> {
+                String name = rs.getString("NAME");
+                if (!names.contains(name)) {
+                    return;
+                }
+                Map<String, Object> plan = new HashMap<>();
+                plan.put("objtype", rs.getString("OBJTYPE"));
+                plan.put("plans", rs.getInt("PLANS"));
+                plan.put("executions", rs.getLong("EXECUTIONS"));
+                plan.put("generation", rs.getLong("GENERATION"));
+                plan.put("cpu_ms", rs.getLong("CPU_MS"));
+                statements.computeIfAbsent(name, k -> new ArrayList<>()).add(plan);
+            });
+
+            // 아직 실행되지 않았거나 플랜 캐시에서 밀려난 문장
+            List<String> notCached = names.stream().filter(name -> !statements.containsKey(name)).toList();
+
+            response.put("success", true);
+            response.put("statements", statements);
+            response.put("notCached", notCached);
+        } catch (Exception e) {
+            log.warn("플랜 캐시 조회 오류 (VIEW SERVER STATE 권한 확인): {}", e.getMessage());
+            response.put("success", false);
+            response.put("registered", names);
+            response.put("message", "플랜 캐시 조회 실패: " + e.getMessage());
+        }
+        return response;
+    }
+}
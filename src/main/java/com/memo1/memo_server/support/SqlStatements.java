@@ -0,0 +1,83 @@
+package com.memo1.memo_server.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 애플리케이션 SQL 문장 이름 등록부
+// named() 는 SQL 앞에 /* 이름 */ 주석을 붙인다. 이름마다 문장 텍스트가 고정되므로 mssql-jdbc 문장 풀
+// (statementPoolingCacheSize) 이 커넥션마다 한 번 prepare 한 핸들을 재사용하고, SQL Server 도 같은 플랜을 재사용한다.
+// SqlMetrics 는 이 주석으로 statement 태그를 붙이고, /actuator/sqlplans 는 플랜 캐시에서 이 이름으로 찾는다.
+// IN 목록은 inList() 로 파라미터 수를 몇 가지 크기로 맞춰서 길이마다 다른 문장/플랜이 생기지 않게 한다.
+public final class SqlStatements {
+
+    private static final String PREFIX = "/* ";
+    private static final String SUFFIX = " */ ";
+
+    // IN 목록 파라미터 수 (SQL Server 한 문장 최대 2100개)
+    private static final int[] IN_SIZES = {1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1000};
+    private static final String[] IN_PLACEHOLDERS = Arrays.stream(IN_SIZES)
+            .mapToObj(size -> String.join(", ", Collections.nCopies(size, "?")))
+            .toArray(String[]::new);
+
+    private static final Set<String> NAMES = ConcurrentHashMap.newKeySet();
+
+    private SqlStatements() {
+    }
+
+    public static String named(String name, String sql) {
+        NAMES.add(name);
+        return PREFIX + name + SUFFIX + sql;
+    }
+
+    // named() 로 만든 SQL 이면 이름, 아니면 null
+    public static String nameOf(String sql) {
+        if (!sql.startsWith(PREFIX)) {
+            return null;
+        }
+        int end = sql.indexOf(SUFFIX, PREFIX.length());
+        return end > 0 ? sql.substring(PREFIX.length(), end) : null;
+    }
+
+    // 이름 주석을 뗀 SQL
+    public static String stripName(String sql) {
+        if (!sql.startsWith(PREFIX)) {
+            return sql;
+        }
+        int end = sql.indexOf(SUFFIX, PREFIX.length());
+        return end > 0 ? sql.substring(end + SUFFIX.length()) : sql;
+    }
+
+    public static Set<String> names() {
+        return Collections.unmodifiableSet(new TreeSet<>(NAMES));
+    }
+
+    // ==================== IN 목록 ====================
+    // count 개 값을 넣을 IN 목록 크기 (IN_SIZES 중 count 이상인 가장 작은 값, 넘으면 count 그대로)
+    public static int inListSize(int count) {
+        for (int size : IN_SIZES) {
+            if (size >= count) {
+                return size;
+            }
+        }
+        return count;
+    }
+
+    // ?, ?, ... (size 는 inListSize 의 결과)
+    public static String inList(int size) {
+        int i = Arrays.binarySearch(IN_SIZES, size);
+        return i >= 0 ? IN_PLACEHOLDERS[i] : String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    // 남는 자리는 마지막 값으로 채운다 (IN 결과는 같다)
+    public static Object[] padInList(Object[] values, int size) {
+        if (values.length == size || values.length == 0) {
+            return values;
+        }
+        Object[] padded = Arrays.copyOf(values, size);
+        Arrays.fill(padded, values.length, size, values[values.length - 1]);
+        return padded;
+    }
+}
@@ -0,0 +1,123 @@
+package com.memo1.memo_server.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 기동 직후 준비 상태(readiness)가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 커넥션 풀과 주요 조회 경로를 데운다
+// ApplicationRunner 는 ApplicationReadyEvent / readiness 변경보다 먼저 실행되므로 여기서 끝난 뒤에 트래픽을 받는다.
+// AOT 빌드에서도 설정으로 켜고 끌 수 있도록 조건부 빈이 아니라 startup.warmup.enabled 를 실행 시점에 확인한다.
+// 1) 커넥션을 minimum-idle 개까지 동시에 열어서 첫 요청들이 커넥션 생성을 기다리지 않게 한다
+// 2) startup.warmup.paths 를 자기 자신에게 iterations 번씩 요청해서 MVC/Jackson/JDBC 경로를 JIT 컴파일시킨다
+//    (X-Warmup 헤더를 붙여 FirstRequestTimer 가 첫 요청으로 세지 않게 함)
+@Slf4j
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    public static final String HEADER = "X-Warmup";
+
+    private final boolean enabled;
+    private final DataSource dataSource;
+    private final WebServerApplicationContext context;
+    private final List<String> paths;
+    private final int iterations;
+    private final Duration timeout;
+
+    public StartupWarmup(DataSource dataSource,
+                         WebServerApplicationContext context,
+                         @Value("${startup.warmup.enabled:false}") boolean enabled,
+                         Environment env,
+                         @Value("${startup.warmup.iterations:50}") int iterations,
+                         @Value("${startup.warmup.timeout:10s}") Duration timeout) {
+        this.enabled = enabled;
+        this.dataSource = dataSource;
+        this.context = context;
+        this.paths = Binder.get(env).bind("startup.warmup.paths", Bindable.listOf(String.class)).orElse(List.of());
+        this.iterations = iterations;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        int connections = warmPool();
+        long poolMs = (System.nanoTime() - start) / 1_000_000;
+        int requests = warmPaths(System.nanoTime() + timeout.toNanos());
+        log.info("워밍업 완료 - 커넥션: {}개 ({}ms), 요청: {}건, 전체: {}ms",
+                connections, poolMs, requests, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int warmPool() {
+        int size;
+        try {
+            size = dataSource.unwrap(HikariDataSource.class).getMinimumIdle();
+        } catch (Exception e) {
+            size = 1;
+        }
+        List<CompletableFuture<Boolean>> opened = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            opened.add(CompletableFuture.supplyAsync(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    return connection.isValid(5);
+                } catch (Exception e) {
+                    log.warn("워밍업 커넥션 생성 실패: {}", e.getMessage());
+                    return false;
+                }
+            }));
+        }
+        return (int) opened.stream().filter(CompletableFuture::join).count();
+    }
+
+    // 경로마다 순서대로 요청. 실패한 응답도 JIT 에는 도움이 되므로 상태 코드는 보지 않는다
+    private int warmPaths(long deadline) {
+        if (paths.isEmpty()) {
+            return 0;
+        }
+        String base = "http://localhost:" + context.getWebServer().getPort();
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        int sent = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (String path : paths) {
+                if (System.nanoTime() > deadline) {
+                    log.warn("워밍업 시간 초과 - {}건에서 중단", sent);
+                    return sent;
+                }
+                try {
+                    client.send(HttpRequest.newBuilder(URI.create(base + path))
+                            .header(HEADER, "true")
+                            .timeout(Duration.ofSeconds(5))
+                            .build(), HttpResponse.BodyHandlers.discarding());
+                    sent++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return sent;
+                } catch (Exception e) {
+                    log.warn("워밍업 요청 실패 - {}: {}", path, e.getMessage());
+                    return sent;
+                }
+            }
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,144 @@
+package com.memo1.memo_server.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 커넥션 / 문장 / ResultSet 을 얇게 감싸서 SQL 별 실행 시간과 행 수를 SqlMetrics 에 기록한다
+// log4jdbc 와 달리 SQL 을 매번 로그로 남기지 않고, 느린 쿼리만 샘플링해서 남긴다.
+// DelegatingDataSource 라서 HikariDataSource 로 unwrap 이 되므로 커넥션 풀 메트릭은 그대로 잡힌다.
+// 종료 시 close() 를 감싼 DataSource 로 넘겨서 커넥션 풀이 닫히게 한다.
+public class TimedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final SqlMetrics metrics;
+
+    public TimedDataSource(DataSource target, SqlMetrics metrics) {
+        super(target);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrapConnection(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement", "prepareCall" -> wrapStatement((Statement) result, metrics.forSql((String) args[0]));
+                case "createStatement" -> wrapStatement((Statement) result, null);
+                default -> result;
+            };
+        });
+    }
+
+    // prepared 면 생성 시점의 SQL, 아니면 execute 호출 시 받은 SQL 로 집계
+    private Statement wrapStatement(Statement target, SqlMetrics.Meters prepared) {
+        Class<? extends Statement> type = target instanceof CallableStatement ? CallableStatement.class
+                : target instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, (proxy, method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                return invoke(target, method, args);
+            }
+            SqlMetrics.Meters meters = prepared != null || args == null || !(args[0] instanceof String sql)
+                    ? prepared
+                    : metrics.forSql(sql);
+            if (meters == null) {
+                return invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            Object result = invoke(target, method, args);
+            meters.recordExecution(System.nanoTime() - start);
+            return switch (name) {
+                case "executeQuery" -> wrapResultSet((ResultSet) result, meters);
+                case "executeUpdate" -> {
+                    meters.recordRows(((Number) result).longValue());
+                    yield result;
+                }
+                case "executeLargeUpdate" -> {
+                    meters.recordRows((Long) result);
+                    yield result;
+                }
+                case "executeBatch" -> {
+                    long total = 0;
+                    for (int count : (int[]) result) {
+                        total += Math.max(count, 0);
+                    }
+                    meters.recordRows(total);
+                    yield result;
+                }
+                case "execute" -> {
+                    // 결과가 ResultSet 이면 getResultSet() 으로 읽으므로 행 수는 세지 않는다
+                    if (!(Boolean) result) {
+                        meters.recordRows(Math.max(target.getUpdateCount(), 0));
+                    }
+                    yield result;
+                }
+                default -> result;
+            };
+        });
+    }
+
+    // 읽은 행 수는 ResultSet 을 닫을 때 기록
+    private ResultSet wrapResultSet(ResultSet target, SqlMetrics.Meters meters) {
+        long[] rows = {0};
+        boolean[] recorded = {false};
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if ((Boolean) result) {
+                        rows[0]++;
+                    }
+                }
+                case "close" -> {
+                    if (!recorded[0]) {
+                        recorded[0] = true;
+                        meters.recordRows(rows[0]);
+                    }
+                }
+                default -> {
+                }
+            }
+            return result;
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(TimedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
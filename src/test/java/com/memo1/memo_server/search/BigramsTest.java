@@ -0,0 +1,38 @@
+package com.memo1.memo_server.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BigramsTest {
+
+    private static int token(char c1, char c2) {
+        return (c1 << 16) | c2;
+    }
+
+    @Test
+    void normalizeLowercasesAndJoinsFieldsWithSeparator() {
+        assertThat(Bigrams.normalize("AbC", null, "Dé")).isEqualTo("abc\u0000\u0000dé");
+    }
+
+    @Test
+    void tokensAreSortedDistinctAndDoNotSpanFields() {
+        int[] tokens = Bigrams.tokens(Bigrams.normalize("abab", "ba"));
+
+        // "ab", "ba" 만 (필드 경계의 "b\0", "\0b" 는 만들지 않음)
+        assertThat(tokens).containsExactly(token('a', 'b'), token('b', 'a'));
+    }
+
+    @Test
+    void hangulIsSplitIntoCharacterPairs() {
+        assertThat(Bigrams.tokens(Bigrams.normalize("게시판")))
+                .containsExactlyInAnyOrder(token('게', '시'), token('시', '판'));
+    }
+
+    @Test
+    void queryTokensNeedAtLeastTwoCharacters() {
+        assertThat(Bigrams.queryTokens(null)).isNull();
+        assertThat(Bigrams.queryTokens("a")).isNull();
+        assertThat(Bigrams.queryTokens("AB")).containsExactly(token('a', 'b'));
+    }
+}
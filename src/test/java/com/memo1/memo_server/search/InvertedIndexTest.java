@@ -0,0 +1,90 @@
+package com.memo1.memo_server.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    void matchesSubstringsCaseInsensitivelyInAscendingOrder() {
+        index.put(3, "Spring Boot", "본문");
+        index.put(1, "spring", null);
+        index.put(2, "summer", "SPRING 게시판");
+
+        assertThat(index.match("SPRING")).containsExactly(1, 2, 3);
+        assertThat(index.match("게시")).containsExactly(2);
+        assertThat(index.match("boot")).containsExactly(3);
+    }
+
+    @Test
+    void candidatesWithAllBigramsAreVerifiedAgainstText() {
+        // "abca" 는 "cab" 의 바이그램("ab", "ca")을 모두 갖지만 "cab" 를 포함하지는 않는다
+        index.put(1, "abca");
+        index.put(2, "cab");
+
+        assertThat(index.match("cab")).containsExactly(2);
+        assertThat(index.match("abc")).containsExactly(1);
+    }
+
+    @Test
+    void doesNotMatchAcrossFields() {
+        index.put(1, "제목", "본문");
+
+        assertThat(index.match("목본")).isEmpty();
+    }
+
+    @Test
+    void likeMetacharactersAreMatchedLiterally() {
+        index.put(1, "할인 50% 행사");
+        index.put(2, "할인 500원");
+        index.put(3, "a_b [공지]");
+        index.put(4, "axb 공지");
+
+        assertThat(index.match("50%")).containsExactly(1);
+        assertThat(index.match("a_b")).containsExactly(3);
+        assertThat(index.match("[공지]")).containsExactly(3);
+    }
+
+    @Test
+    void shortKeywordCannotBeAnswered() {
+        index.put(1, "a");
+
+        assertThat(index.match("a")).isNull();
+        assertThat(index.match(null)).isNull();
+    }
+
+    @Test
+    void putReplacesAndRemoveDropsDocument() {
+        index.put(1, "old title");
+        index.put(1, "new title");
+
+        assertThat(index.match("old")).isEmpty();
+        assertThat(index.match("new")).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+
+        index.remove(1);
+        assertThat(index.match("title")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void textBytesTracksStoredText() {
+        index.put(1, "abcd");
+        long one = index.textBytes();
+        assertThat(one).isGreaterThanOrEqualTo(8);
+
+        index.put(2, "abcd");
+        assertThat(index.textBytes()).isEqualTo(one * 2);
+
+        // 교체하면 이전 원문 크기는 빠진다
+        index.put(1, "abcdefgh");
+        assertThat(index.textBytes()).isEqualTo(one * 2 + 8);
+
+        index.remove(1);
+        index.remove(2);
+        assertThat(index.textBytes()).isZero();
+    }
+}
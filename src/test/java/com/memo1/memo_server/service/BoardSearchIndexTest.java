@@ -0,0 +1,99 @@
+package com.memo1.memo_server.service;
+
+import com.memo1.memo_server.event.BoardChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static com.memo1.memo_server.event.BoardChangedEvent.Type.CREATED;
+import static com.memo1.memo_server.event.BoardChangedEvent.Type.DELETED;
+import static com.memo1.memo_server.event.BoardChangedEvent.Type.UPDATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoardSearchIndexTest {
+
+    private final JdbcTemplate jdbc = mock(JdbcTemplate.class);
+    private final BoardSearchIndex index = new BoardSearchIndex(jdbc, new SimpleMeterRegistry(), "index");
+
+    // 스캔이 행을 읽은 뒤 색인에 넣기 전에 이벤트가 처리되는 상황을 흉내 낸다
+    private void scanWith(Runnable betweenRows, Object[]... rows) {
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            for (int i = 0; i < rows.length; i++) {
+                if (i == 1) {
+                    betweenRows.run();
+                }
+                handler.processRow(row(rows[i]));
+            }
+            return null;
+        }).when(jdbc).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    private static ResultSet row(Object[] values) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getInt(1)).thenReturn((Integer) values[0]);
+        when(rs.getString(2)).thenReturn((String) values[1]);
+        when(rs.getString(3)).thenReturn((String) values[2]);
+        when(rs.getString(4)).thenReturn((String) values[3]);
+        return rs;
+    }
+
+    @Test
+    void deleteDuringBuildIsNotOverwrittenByScannedRow() {
+        scanWith(() -> index.onBoardChanged(new BoardChangedEvent(DELETED, 2, "B01", null, null)),
+                new Object[]{1, "B01", "공지 사항", "본문"},
+                new Object[]{2, "B01", "공지 삭제됨", "본문"});
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.match("B01", "공지")).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void updateDuringBuildKeepsNewText() {
+        scanWith(() -> index.onBoardChanged(new BoardChangedEvent(UPDATED, 2, "B01", "새 제목", "새 본문")),
+                new Object[]{1, "B01", "첫 글", "본문"},
+                new Object[]{2, "B01", "옛 제목", "옛 본문"});
+
+        index.rebuild();
+
+        assertThat(index.match("B01", "옛 제목")).isEmpty();
+        assertThat(index.match("B01", "새 제목")).containsExactly(2);
+    }
+
+    @Test
+    void eventsAfterBuildAreAppliedDirectly() {
+        scanWith(() -> { }, new Object[]{1, "B01", "첫 글", "본문"});
+        index.rebuild();
+
+        index.onBoardChanged(new BoardChangedEvent(CREATED, 5, "B02", "다른 게시판 글", "본문"));
+        index.onBoardChanged(new BoardChangedEvent(DELETED, 1, "B01", null, null));
+
+        assertThat(index.match("B01", "첫 글")).isEmpty();
+        assertThat(index.match("B02", "게시판")).containsExactly(5);
+    }
+
+    @Test
+    void periodicRebuildDropsDocumentsMissingFromTable() {
+        // 이벤트가 유실되어 색인에만 남은 글은 다음 구축에서 사라진다
+        scanWith(() -> { }, new Object[]{1, "B01", "첫 글", "본문"});
+        index.rebuild();
+        index.onBoardChanged(new BoardChangedEvent(CREATED, 9, "B01", "유령 글", "본문"));
+
+        index.scheduledRebuild();
+
+        assertThat(index.match("B01", "유령")).isEmpty();
+        assertThat(index.match("B01", "첫 글")).containsExactly(1);
+    }
+}
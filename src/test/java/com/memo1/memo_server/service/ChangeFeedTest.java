@@ -0,0 +1,219 @@
+package com.memo1.memo_server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.memo1.memo_server.event.BoardChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.memo1.memo_server.event.BoardChangedEvent.Type.CREATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChangeFeedTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id: (\\S+)-(\\d+)\n");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ChangeFeed feed;
+
+    @AfterEach
+    void tearDown() {
+        if (feed != null) {
+            feed.shutdown();
+        }
+    }
+
+    private ChangeFeed feed(int bufferSize, int replaySize, int senderThreads) {
+        feed = new ChangeFeed(new ObjectMapper(), registry, bufferSize, replaySize, 100, Duration.ofMinutes(1), senderThreads);
+        return feed;
+    }
+
+    // 컨테이너의 논블로킹 출력 대신 쓰는 스트림. ready 가 false 면 소켓이 가득 찬 상태
+    private static final class FakeOutput extends ServletOutputStream {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final CountDownLatch release;
+        private final CountDownLatch writing = new CountDownLatch(1);
+        volatile boolean ready = true;
+
+        FakeOutput(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            writing.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+            }
+            synchronized (bytes) {
+                bytes.write(b, off, len);
+            }
+        }
+
+        String text() {
+            synchronized (bytes) {
+                return bytes.toString(StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private static AsyncContext asyncWith(FakeOutput out) throws IOException {
+        AsyncContext async = mock(AsyncContext.class);
+        ServletResponse response = mock(ServletResponse.class);
+        when(async.getResponse()).thenReturn(response);
+        when(response.getOutputStream()).thenReturn(out);
+        return async;
+    }
+
+    private void publish(int seq) {
+        feed.onBoardChanged(new BoardChangedEvent(CREATED, seq, "B01", "제목 " + seq, "본문"));
+    }
+
+    private static String awaitText(FakeOutput out, String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!out.text().contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(out.text()).contains(expected);
+        return out.text();
+    }
+
+    @Test
+    void fullQueueClosesSubscriberWithoutBlockingPublish() throws Exception {
+        feed(4, 100, 2);
+        // 전송 스레드가 이 구독자의 쓰기 안에서 멈춰 있는 상태 (구독자 잠금을 쥐고 있음)
+        CountDownLatch release = new CountDownLatch(1);
+        FakeOutput stuck = new FakeOutput(release);
+        AsyncContext stuckAsync = asyncWith(stuck);
+        feed.subscribe(stuckAsync, Set.of("board"), null);
+        assertThat(stuck.writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        FakeOutput healthy = new FakeOutput(null);
+        feed.subscribe(asyncWith(healthy), Set.of("board"), null);
+
+        // 다른 구독자는 다른 전송 스레드로 계속 받는다 (한 건씩 받은 것을 확인하며 발행)
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 1; i <= 20; i++) {
+                publish(i);
+                awaitText(healthy, "-" + i + "\n");
+            }
+        });
+        assertThat(registry.get("feed.dropped").counter().count()).isEqualTo(1.0);
+        verify(stuckAsync, never()).complete();
+
+        // 멈춘 쓰기가 풀리면 전송 작업이 연결을 끝낸다
+        release.countDown();
+        verify(stuckAsync, timeout(5000)).complete();
+
+        Matcher ids = EVENT_ID.matcher(healthy.text());
+        int received = 0;
+        while (ids.find()) {
+            received++;
+        }
+        assertThat(received).isEqualTo(20);
+    }
+
+    @Test
+    void stalledSocketSubscriberIsClosedWhenQueueFills() throws Exception {
+        feed(4, 100, 1);
+        FakeOutput stalled = new FakeOutput(null);
+        stalled.ready = false;
+        AsyncContext async = asyncWith(stalled);
+        feed.subscribe(async, Set.of("board:B01"), null);
+
+        for (int i = 1; i <= 10; i++) {
+            publish(i);
+        }
+
+        verify(async, timeout(5000)).complete();
+        assertThat(registry.get("feed.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(stalled.text()).isEmpty();
+    }
+
+    @Test
+    void lastEventIdReplaysOnlyLaterEvents() throws Exception {
+        feed(16, 100, 1);
+        FakeOutput first = new FakeOutput(null);
+        feed.subscribe(asyncWith(first), Set.of("board"), null);
+        publish(1);
+        publish(2);
+        publish(3);
+        Matcher id = EVENT_ID.matcher(awaitText(first, "-3\n"));
+        assertThat(id.find()).isTrue();
+        String lastEventId = id.group(1) + "-1";
+
+        FakeOutput resumed = new FakeOutput(null);
+        feed.subscribe(asyncWith(resumed), Set.of("board"), lastEventId);
+
+        String text = awaitText(resumed, id.group(1) + "-3\n");
+        assertThat(text).contains(id.group(1) + "-2\n").doesNotContain(id.group(1) + "-1\n")
+                .doesNotContain("event: reset");
+    }
+
+    @Test
+    void unknownOrExpiredLastEventIdGetsReset() throws Exception {
+        feed(16, 2, 1);
+        FakeOutput first = new FakeOutput(null);
+        feed.subscribe(asyncWith(first), Set.of("board"), null);
+        for (int i = 1; i <= 5; i++) {
+            publish(i);
+        }
+        Matcher id = EVENT_ID.matcher(awaitText(first, "-5\n"));
+        assertThat(id.find()).isTrue();
+        String epoch = id.group(1);
+
+        // 다른 인스턴스(재시작 전)의 ID
+        FakeOutput otherInstance = new FakeOutput(null);
+        feed.subscribe(asyncWith(otherInstance), Set.of("board"), "other-4");
+        assertThat(awaitText(otherInstance, "event: reset")).doesNotContain("id: ");
+
+        // replay-size(2) 보다 오래된 ID
+        FakeOutput expired = new FakeOutput(null);
+        feed.subscribe(asyncWith(expired), Set.of("board"), epoch + "-1");
+        assertThat(awaitText(expired, "event: reset")).doesNotContain("id: ");
+
+        // 남아 있는 범위 안의 ID 는 reset 없이 이어 받는다
+        FakeOutput recent = new FakeOutput(null);
+        feed.subscribe(asyncWith(recent), Set.of("board"), epoch + "-3");
+        assertThat(awaitText(recent, epoch + "-5\n")).contains(epoch + "-4\n").doesNotContain("event: reset");
+    }
+}
@@ -0,0 +1,168 @@
+package com.memo1.memo_server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.memo1.memo_server.controller.BoardController;
+import com.memo1.memo_server.dto.Board;
+import com.memo1.memo_server.dto.BoardSummary;
+import com.memo1.memo_server.support.Bulkheads;
+import com.memo1.memo_server.support.JsonRowStreamer;
+import com.memo1.memo_server.support.NdjsonExporter;
+import com.memo1.memo_server.support.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotPageCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final JdbcTemplate jdbc = mock(JdbcTemplate.class);
+    private final BoardPostCounter postCounter = mock(BoardPostCounter.class);
+    private final BoardRegistry boardRegistry = mock(BoardRegistry.class);
+    private final ChangeVersions versions = new ChangeVersions(Duration.ZERO);
+
+    private HotPageCache hotPages(SingleFlight singleFlight, boolean enabled, Duration maxAge) {
+        return new HotPageCache(objectMapper, versions, boardRegistry, singleFlight, registry,
+                enabled, 3, Set.of(10), maxAge);
+    }
+
+    private BoardController controller(boolean hotPagesEnabled) {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 1000);
+        HotPageCache hotPages = hotPages(singleFlight, hotPagesEnabled, Duration.ofMinutes(1));
+        BoardController controller = new BoardController(jdbc, postCounter, mock(AttachmentStore.class), boardRegistry,
+                mock(BoardSearchIndex.class), mock(DetailCache.class), versions, mock(PostInserter.class),
+                mock(BulkWriter.class), mock(JsonRowStreamer.class), mock(NdjsonExporter.class),
+                mock(ApplicationEventPublisher.class), singleFlight,
+                new Bulkheads(mock(Environment.class), registry, false), hotPages);
+        ReflectionTestUtils.setField(controller, "previewLength", 100);
+        return controller;
+    }
+
+    private void givenBoard(String brCd, List<?> rows, int total) {
+        when(boardRegistry.isRegistered(brCd)).thenReturn(true);
+        when(postCounter.get(brCd)).thenReturn(total);
+        doReturn(rows).when(jdbc).query(anyString(), any(RowMapper.class), eq(brCd), any(), any());
+    }
+
+    private static WebRequest request(String acceptEncoding) {
+        WebRequest webRequest = mock(WebRequest.class);
+        when(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING)).thenReturn(acceptEncoding);
+        return webRequest;
+    }
+
+    private ResponseEntity<?> get(BoardController controller, int page, String view, String acceptEncoding) {
+        return controller.getBoardPosts("B01", page, 10, null, null, true, view, request(acceptEncoding),
+                mock(HttpServletResponse.class));
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void cachedBytesMatchJacksonRenderedResponse() throws IOException {
+        Timestamp regDt = Timestamp.valueOf("2024-05-01 09:30:15.123");
+        for (String view : List.of("full", "summary")) {
+            List<?> rows = "full".equals(view)
+                    ? List.of(new Board(12, "B01", "제목 \"12\"", "본문\n줄바꿈", null, "kim", regDt),
+                              new Board(11, "B01", "제목 11", "본문", "/api/attachments/abc", "lee", regDt))
+                    : List.of(new BoardSummary(12, "B01", "제목 \"12\"", "본문", "kim", regDt),
+                              new BoardSummary(11, "B01", "제목 11", "본문", "lee", regDt));
+            givenBoard("B01", rows, 25);
+
+            for (int page = 1; page <= 3; page++) {
+                Object body = get(controller(false), page, view, null).getBody();
+                byte[] expected = objectMapper.writeValueAsBytes(body);
+
+                BoardController cached = controller(true);
+                ResponseEntity<?> plain = get(cached, page, view, null);
+                ResponseEntity<?> gzip = get(cached, page, view, "gzip, deflate, br");
+
+                assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+                assertThat((byte[]) plain.getBody()).isEqualTo(expected);
+                assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+                assertThat(gunzip((byte[]) gzip.getBody())).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void gzipOnlyWhenAcceptedWithPositiveQuality() {
+        givenBoard("B01", List.of(), 0);
+        BoardController controller = controller(true);
+
+        assertThat(get(controller, 1, "full", "gzip;q=0, identity").getHeaders()
+                .getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(get(controller, 1, "full", "x-gzip").getHeaders()
+                .getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(get(controller, 1, "full", "identity;q=0.5, gzip;q=0.8").getHeaders()
+                .getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    @Test
+    void entriesOlderThanMaxAgeAreRebuiltWithoutVersionChange() throws InterruptedException {
+        // 다른 인스턴스의 변경처럼 버전이 그대로여도 max-age 가 지나면 다시 읽는다
+        HotPageCache hotPages = hotPages(new SingleFlight(registry, true, 1000), true, Duration.ofMillis(50));
+        HotPageCache.Key key = new HotPageCache.Key("B01", 1, 10, "full");
+        AtomicInteger loads = new AtomicInteger();
+        Function<HotPageCache.Key, Object> loader = k -> Map.of("loads", loads.incrementAndGet());
+
+        hotPages.get(key, "v1", false, loader);
+        hotPages.get(key, "v1", false, loader);
+        assertThat(loads).hasValue(1);
+
+        Thread.sleep(100);
+        ResponseEntity<byte[]> response = hotPages.get(key, "v1", false, loader);
+        assertThat(loads).hasValue(2);
+        assertThat(new String(response.getBody())).isEqualTo("{\"loads\":2}");
+    }
+
+    @Test
+    void acceptsGzipParsesQualityValues() {
+        assertThat(HotPageCache.acceptsGzip("gzip")).isTrue();
+        assertThat(HotPageCache.acceptsGzip("deflate, GZIP ; Q=0.5")).isTrue();
+        assertThat(HotPageCache.acceptsGzip("*")).isTrue();
+        assertThat(HotPageCache.acceptsGzip("gzip;q=1.000")).isTrue();
+
+        assertThat(HotPageCache.acceptsGzip(null)).isFalse();
+        assertThat(HotPageCache.acceptsGzip("")).isFalse();
+        assertThat(HotPageCache.acceptsGzip("identity")).isFalse();
+        assertThat(HotPageCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(HotPageCache.acceptsGzip("gzip;q=0.000")).isFalse();
+        assertThat(HotPageCache.acceptsGzip("x-gzip")).isFalse();
+        assertThat(HotPageCache.acceptsGzip("x-gzip, deflate")).isFalse();
+        assertThat(HotPageCache.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(HotPageCache.acceptsGzip("*;q=0")).isFalse();
+        assertThat(HotPageCache.acceptsGzip("gzip;q=abc")).isFalse();
+        assertThat(HotPageCache.acceptsGzip("gzip;q=2")).isFalse();
+    }
+}
@@ -0,0 +1,124 @@
+package com.memo1.memo_server.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(20);
+
+    // 한도만큼 자리를 잡았다가 모두 rtt 로 돌려준다
+    private static void saturate(AdaptiveLimiter limiter, long rtt) {
+        int permits = limiter.limit();
+        for (int i = 0; i < permits; i++) {
+            assertThat(limiter.acquire()).isTrue();
+        }
+        for (int i = 0; i < permits; i++) {
+            limiter.release(rtt);
+        }
+    }
+
+    @Test
+    void growsUpToMaxLimitWhileBusyAndFast() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(2, 1, 10, Duration.ZERO);
+
+        for (int i = 0; i < 100; i++) {
+            saturate(limiter, FAST);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(10);
+        assertThat(limiter.inflight()).isZero();
+    }
+
+    @Test
+    void doesNotGrowWhenMostlyIdle() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(8, 1, 16, Duration.ZERO);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.acquire()).isTrue();
+            limiter.release(FAST);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void shrinksToMinLimitWhenLatencyRises() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(8, 2, 8, Duration.ZERO);
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, FAST);
+        }
+        assertThat(limiter.limit()).isEqualTo(8);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.acquire()).isTrue();
+            limiter.release(SLOW);
+        }
+        assertThat(limiter.limit()).isLessThan(8);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(limiter.acquire()).isTrue();
+            limiter.release(SLOW);
+        }
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsAfterQueueTimeout() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, Duration.ofMillis(50));
+        assertThat(limiter.acquire()).isTrue();
+
+        long start = System.nanoTime();
+        assertThat(limiter.acquire()).isFalse();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+        assertThat(limiter.inflight()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroQueueTimeoutRejectsImmediately() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, Duration.ZERO);
+        assertThat(limiter.acquire()).isTrue();
+
+        assertThat(limiter.acquire()).isFalse();
+    }
+
+    @Test
+    void queuedAcquireGetsReleasedPermit() throws Exception {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, Duration.ofSeconds(5));
+        assertThat(limiter.acquire()).isTrue();
+
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(limiter::acquire);
+        Thread.sleep(50);
+        assertThat(waiting).isNotDone();
+
+        limiter.release(FAST);
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.inflight()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkheadReleasesPermitWhenActionThrows() {
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("bulkhead.test.initial-limit", "1")
+                .withProperty("bulkhead.test.max-limit", "1")
+                .withProperty("bulkhead.test.queue-timeout", "0ms");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Bulkheads bulkheads = new Bulkheads(env, registry, true);
+
+        assertThatThrownBy(() -> bulkheads.execute("test", () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get("bulkhead.inflight").tag("bulkhead", "test").gauge().value()).isZero();
+        assertThat(bulkheads.execute("test", () -> "ok")).isEqualTo("ok");
+    }
+}
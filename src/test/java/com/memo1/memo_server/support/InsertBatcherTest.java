@@ -0,0 +1,206 @@
+package com.memo1.memo_server.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InsertBatcherTest {
+
+    // 넣은 행을 기록하는 가짜 테이블 (배치는 실패하면 아무것도 남기지 않음)
+    private final List<String> table = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private InsertBatcher<String, String> batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    private InsertBatcher<String, String> batcher(Duration linger,
+                                                  Function<List<String>, List<String>> batchInsert,
+                                                  Function<String, String> singleInsert) {
+        return new InsertBatcher<>("test", 100, linger, 1000, batchInsert, singleInsert, new SimpleMeterRegistry());
+    }
+
+    private List<String> insertAll(List<String> rows) {
+        batchSizes.add(rows.size());
+        table.addAll(rows);
+        return rows.stream().map(r -> "id-" + r).toList();
+    }
+
+    private String insertOne(String row) {
+        if (row.startsWith("bad")) {
+            throw new IllegalArgumentException("잘못된 행: " + row);
+        }
+        table.add(row);
+        return "id-" + row;
+    }
+
+    private static List<CompletableFuture<Object>> insertConcurrently(InsertBatcher<String, String> batcher, List<String> rows) {
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+        for (String row : rows) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return batcher.insert(row);
+                } catch (RuntimeException e) {
+                    return e;
+                }
+            }));
+        }
+        return results;
+    }
+
+    @Test
+    void concurrentInsertsAreBatchedAndEachCallerGetsItsOwnResult() {
+        batcher = batcher(Duration.ofMillis(200), this::insertAll, this::insertOne);
+
+        List<String> rows = List.of("a", "b", "c", "d");
+        List<CompletableFuture<Object>> results = insertConcurrently(batcher, rows);
+
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(results.get(i).join()).isEqualTo("id-" + rows.get(i));
+        }
+        assertThat(table).containsExactlyInAnyOrderElementsOf(rows);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(rows.size());
+        assertThat(batchSizes.size()).isLessThan(rows.size());
+    }
+
+    @Test
+    void moreConcurrentCallersThanPoolSizeDoNotStarveTheWorker() {
+        // 커넥션 풀(maximum-pool-size: 10)을 세마포어로 흉내. 배치 INSERT 는 REQUIRES_NEW 라 자기 커넥션을 따로 얻는다.
+        // 기다리는 호출자가 커넥션을 잡고 있지 않으므로(트랜잭션 없이 호출) 풀보다 많은 요청이 몰려도 모두 끝난다
+        Semaphore pool = new Semaphore(10);
+        Function<List<String>, List<String>> batchInsert = rows -> withConnection(pool, () -> insertAll(rows));
+        Function<String, String> singleInsert = row -> withConnection(pool, () -> insertOne(row));
+        batcher = new InsertBatcher<>("test", 5, Duration.ofMillis(20), 1000, batchInsert, singleInsert, new SimpleMeterRegistry());
+
+        List<String> rows = IntStream.range(0, 30).mapToObj(i -> "row-" + i).toList();
+        List<CompletableFuture<Object>> results = insertConcurrently(batcher, rows);
+
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(results.get(i).join()).isEqualTo("id-" + rows.get(i));
+        }
+        assertThat(table).containsExactlyInAnyOrderElementsOf(rows);
+        assertThat(pool.availablePermits()).isEqualTo(10);
+    }
+
+    // 커넥션을 빌려 실행. connection-timeout 안에 못 얻으면 Hikari 처럼 실패한다
+    private static <R> R withConnection(Semaphore pool, Supplier<R> work) {
+        try {
+            if (!pool.tryAcquire(2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("커넥션을 얻지 못함");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        try {
+            return work.get();
+        } finally {
+            pool.release();
+        }
+    }
+
+    @Test
+    void failedBatchIsRetriedRowByRowWithoutDuplicates() {
+        // 실행 후 실패(결과 행 수 불일치 등)를 흉내: 배치 전체가 롤백되어 아무 행도 남지 않는다
+        batcher = batcher(Duration.ofMillis(200), rows -> {
+            batchSizes.add(rows.size());
+            throw new IllegalStateException("배치 INSERT 결과 행 수 불일치");
+        }, this::insertOne);
+
+        List<String> rows = List.of("a", "bad-1", "b", "c");
+        List<CompletableFuture<Object>> results = insertConcurrently(batcher, rows);
+
+        assertThat(results.get(0).join()).isEqualTo("id-a");
+        assertThat(results.get(1).join()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(results.get(2).join()).isEqualTo("id-b");
+        assertThat(results.get(3).join()).isEqualTo("id-c");
+        assertThat(table).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void singleRowBatchFailureIsThrownAsIs() {
+        batcher = batcher(Duration.ZERO, rows -> {
+            throw new IllegalArgumentException("중복 키");
+        }, this::insertOne);
+
+        assertThatThrownBy(() -> batcher.insert("a"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("중복 키");
+        assertThat(table).isEmpty();
+    }
+
+    @Test
+    void shutdownFlushesQueuedRowsAndLaterInsertsGoDirect() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = batcher(Duration.ZERO, rows -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return insertAll(rows);
+        }, this::insertOne);
+
+        // 첫 행이 배치 INSERT 안에서 막혀 있는 동안 나머지가 큐에 쌓인다
+        List<CompletableFuture<Object>> results = new ArrayList<>(insertConcurrently(batcher, List.of("a")));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        results.addAll(insertConcurrently(batcher, List.of("b", "c")));
+        Thread.sleep(100);
+
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(batcher::shutdown);
+        release.countDown();
+        shutdown.get(5, TimeUnit.SECONDS);
+
+        for (CompletableFuture<Object> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).asString().startsWith("id-");
+        }
+        assertThat(batcher.insert("d")).isEqualTo("id-d");
+        assertThat(table).containsExactlyInAnyOrder("a", "b", "c", "d");
+    }
+
+    @Test
+    void interruptedWorkerStillCompletesCollectedRows() throws Exception {
+        // linger 가 길어서 워커가 행을 모으는 중에 인터럽트된다
+        batcher = batcher(Duration.ofSeconds(30), this::insertAll, this::insertOne);
+
+        List<CompletableFuture<Object>> results = insertConcurrently(batcher, List.of("a", "b"));
+        Thread.sleep(200);
+        Thread worker = Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().equals("test-insert-batcher"))
+                .findFirst()
+                .orElseThrow();
+        worker.interrupt();
+
+        for (CompletableFuture<Object> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).asString().startsWith("id-");
+        }
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(worker.isAlive()).isFalse();
+        // 워커가 끝난 뒤의 요청은 호출 스레드에서 바로 넣는다
+        assertThat(batcher.insert("c")).isEqualTo("id-c");
+        assertThat(table).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(Collections.frequency(table, "a")).isEqualTo(1);
+    }
+}
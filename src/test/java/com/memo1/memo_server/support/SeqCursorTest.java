@@ -0,0 +1,77 @@
+package com.memo1.memo_server.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeqCursorTest {
+
+    private static String raw(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void roundTrips() {
+        for (int seq : new int[]{0, 1, 42, 1_000_000, Integer.MAX_VALUE}) {
+            String cursor = SeqCursor.encode(seq);
+            assertThat(cursor).doesNotContain("=", "+", "/");
+            assertThat(SeqCursor.decode(cursor)).isEqualTo(seq);
+        }
+    }
+
+    @Test
+    void rejectsMalformedBase64() {
+        assertThatThrownBy(() -> SeqCursor.decode("not base64!"))
+                .isInstanceOf(SeqCursor.InvalidCursorException.class);
+        assertThatThrownBy(() -> SeqCursor.decode("czE6M"))
+                .isInstanceOf(SeqCursor.InvalidCursorException.class);
+    }
+
+    @Test
+    void rejectsWrongPrefix() {
+        assertThatThrownBy(() -> SeqCursor.decode(raw("s2:10")))
+                .isInstanceOf(SeqCursor.InvalidCursorException.class);
+        assertThatThrownBy(() -> SeqCursor.decode(raw("10")))
+                .isInstanceOf(SeqCursor.InvalidCursorException.class);
+    }
+
+    @Test
+    void rejectsNegativeSignedOrOverflowingSeq() {
+        for (String seq : new String[]{"-1", "+5", "", " 5", "5x", "2147483648", "99999999999999999999"}) {
+            assertThatThrownBy(() -> SeqCursor.decode(raw("s1:" + seq)))
+                    .as(seq)
+                    .isInstanceOf(SeqCursor.InvalidCursorException.class);
+        }
+    }
+
+    @Test
+    void invalidCursorIsIllegalArgument() {
+        assertThatThrownBy(() -> SeqCursor.decode(raw("s1:-1")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서");
+    }
+
+    @Test
+    void afterSeqTakesPrecedenceOverCursor() {
+        assertThat(SeqCursor.resolve(7, SeqCursor.encode(100))).isEqualTo(7);
+        // afterSeq 가 있으면 cursor 는 해석하지 않는다
+        assertThat(SeqCursor.resolve(7, "not base64!")).isEqualTo(7);
+    }
+
+    @Test
+    void cursorIsUsedWithoutAfterSeq() {
+        assertThat(SeqCursor.resolve(null, SeqCursor.encode(100))).isEqualTo(100);
+        assertThatThrownBy(() -> SeqCursor.resolve(null, "not base64!"))
+                .isInstanceOf(SeqCursor.InvalidCursorException.class);
+    }
+
+    @Test
+    void emptyCursorStartsFromNewestAndNullMeansOffsetMode() {
+        assertThat(SeqCursor.resolve(null, "")).isEqualTo(Integer.MAX_VALUE);
+        assertThat(SeqCursor.resolve(null, null)).isNull();
+    }
+}
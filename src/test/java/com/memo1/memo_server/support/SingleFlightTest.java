@@ -0,0 +1,181 @@
+package com.memo1.memo_server.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    // release 가 열릴 때까지 끝나지 않는 loader
+    private Supplier<Object> blockingLoader(CountDownLatch started, CountDownLatch release, Supplier<Object> result) {
+        return () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return result.get();
+        };
+    }
+
+    // name 태그와 관계없이 합산
+    private double count(String outcome) {
+        return registry.find("singleflight.requests").tag("outcome", outcome).counters().stream()
+                .mapToDouble(Counter::count).sum();
+    }
+
+    private double inflight() {
+        return registry.get("singleflight.inflight").gauge().value();
+    }
+
+    private void awaitShared(int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (count("shared") < followers && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(count("shared")).isEqualTo(followers);
+    }
+
+    private List<CompletableFuture<Object>> followers(SingleFlight singleFlight, List<?> key, int n) {
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("test", key, () -> {
+                calls.incrementAndGet();
+                return "follower ran loader";
+            }), pool));
+        }
+        return results;
+    }
+
+    @Test
+    void followersShareLeaderResult() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 1000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("test", List.of("B01", 1), blockingLoader(started, release, () -> result)), pool);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<Object>> followers = followers(singleFlight, List.of("B01", 1), 5);
+        awaitShared(5);
+
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        for (CompletableFuture<Object> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("leader")).isEqualTo(1);
+    }
+
+    @Test
+    void followersReceiveLeaderException() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 1000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("DB 오류");
+
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("test", List.of("k"), blockingLoader(started, release, () -> {
+                    throw failure;
+                })), pool);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<Object>> followers = followers(singleFlight, List.of("k"), 3);
+        awaitShared(3);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCauseReference(failure);
+        for (CompletableFuture<Object> follower : followers) {
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class).hasCauseReference(failure);
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void differentKeysDoNotShare() {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 1000);
+
+        assertThat(singleFlight.execute("test", List.of("B01", 1), () -> "a")).isEqualTo("a");
+        assertThat(singleFlight.execute("test", List.of("B01", 2), () -> "b")).isEqualTo("b");
+        assertThat(singleFlight.execute("other", List.of("B01", 1), () -> "c")).isEqualTo("c");
+        assertThat(count("leader")).isEqualTo(3);
+    }
+
+    @Test
+    void bypassesWhenMaxKeysInFlight() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("test", List.of("held"), blockingLoader(started, release, () -> "held")), pool);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 한도가 찼으므로 다른 키도, 같은 키도 기다리지 않고 각자 실행한다
+        assertThat(singleFlight.execute("test", List.of("other"), () -> "other")).isEqualTo("other");
+        assertThat(singleFlight.execute("test", List.of("held"), () -> "own")).isEqualTo("own");
+        assertThat(count("bypassed")).isEqualTo(2);
+        assertThat(count("shared")).isZero();
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("held");
+    }
+
+    @Test
+    void keyIsRemovedAfterCompletion() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 1000);
+
+        assertThat(singleFlight.execute("test", List.of("k"), () -> "first")).isEqualTo("first");
+        assertThat(inflight()).isZero();
+        // 끝난 결과는 캐시되지 않는다
+        assertThat(singleFlight.execute("test", List.of("k"), () -> "second")).isEqualTo("second");
+
+        assertThatThrownBy(() -> singleFlight.execute("test", List.of("k"), () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(inflight()).isZero();
+        assertThat(singleFlight.execute("test", List.of("k"), () -> "after failure")).isEqualTo("after failure");
+        assertThat(count("leader")).isEqualTo(4);
+        assertThat(count("shared")).isZero();
+    }
+
+    @Test
+    void disabledRunsEveryLoader() {
+        SingleFlight singleFlight = new SingleFlight(registry, false, 1000);
+
+        assertThat(singleFlight.execute("test", List.of("k"), () -> "x")).isEqualTo("x");
+        assertThat(count("leader")).isZero();
+    }
+}
@@ -0,0 +1,18 @@
+package com.memo1.memo_server.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlLikeTest {
+
+    @Test
+    void wrapsKeywordWithWildcards() {
+        assertThat(SqlLike.contains("게시판")).isEqualTo("%게시판%");
+    }
+
+    @Test
+    void escapesLikeMetacharacters() {
+        assertThat(SqlLike.contains("50%_[a]\\")).isEqualTo("%50\\%\\_\\[a]\\\\%");
+    }
+}